@@ -0,0 +1,9 @@
+package com.jobswipe.archive;
+
+import com.jobswipe.domain.entity.MessageStatus;
+import java.time.LocalDateTime;
+
+// A chat message as stored in a cold segment; the room and its users stay in the database
+public record ArchivedMessage(long seq, long id, long senderId, LocalDateTime createdAt, MessageStatus status,
+        String content) {
+}
@@ -0,0 +1,134 @@
+package com.jobswipe.archive;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+/**
+ * Cold tier for chat history: per-room, append-only segment files on local disk, each
+ * covering a contiguous seq range. The database decides which seqs are archived
+ * (chat_rooms.archived_up_to_seq); files past that point are leftovers of an archive run
+ * that did not commit and are replaced on the next run.
+ */
+@Slf4j
+@Component
+public class ChatArchive {
+
+    private static final String SUFFIX = ".seg";
+
+    @Value("${app.chat.archive.dir:data/chat-archive}")
+    private String directory;
+
+    @Value("${app.chat.archive.open-segments:256}")
+    private long openSegments;
+
+    private Path root;
+    // Map<ChatRoomId, Map<FirstSeq, SegmentFile>>
+    private LoadingCache<Long, NavigableMap<Long, Path>> segmentsByRoom;
+    private LoadingCache<Path, Segment> mapped;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(directory);
+        Files.createDirectories(root);
+        segmentsByRoom = Caffeine.newBuilder().maximumSize(10_000).build(this::listSegments);
+        // Evicted segments are unmapped by the garbage collector once no reader holds them
+        mapped = Caffeine.newBuilder().maximumSize(openSegments).build(Segment::open);
+    }
+
+    /**
+     * Writes one segment for the room. messages must be in seq order and start right after
+     * the room's archived_up_to_seq; the file is durable when this returns.
+     */
+    public void write(Long chatRoomId, List<ArchivedMessage> messages) {
+        long firstSeq = messages.get(0).seq();
+        long lastSeq = messages.get(messages.size() - 1).seq();
+        Path roomDir = roomDir(chatRoomId);
+        try {
+            if (!Files.isDirectory(roomDir)) {
+                Files.createDirectories(roomDir);
+                // New directory entries are only durable once their parents are synced
+                syncDirectory(roomDir.getParent());
+                syncDirectory(root);
+            }
+            discardFrom(chatRoomId, firstSeq);
+            Path target = roomDir.resolve(firstSeq + "-" + lastSeq + SUFFIX);
+            Path temp = roomDir.resolve(target.getFileName() + ".tmp");
+            Segment.write(temp, messages);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            // The rename must survive a crash: the caller deletes the rows from the database next
+            syncDirectory(roomDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write chat archive segment for room " + chatRoomId, e);
+        } finally {
+            segmentsByRoom.invalidate(chatRoomId);
+        }
+    }
+
+    // Archived messages with fromSeq <= seq <= toSeq, in seq order
+    public List<ArchivedMessage> read(Long chatRoomId, long fromSeq, long toSeq) {
+        List<ArchivedMessage> messages = new ArrayList<>((int) Math.min(toSeq - fromSeq + 1, 1024));
+        try {
+            NavigableMap<Long, Path> segments = segmentsByRoom.get(chatRoomId);
+            Long start = segments.floorKey(fromSeq);
+            for (Path file : segments.subMap(start != null ? start : fromSeq, true, toSeq, true).values()) {
+                mapped.get(file).read(fromSeq, toSeq, messages);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read chat archive for room " + chatRoomId, e);
+        } catch (CompletionException e) {
+            // Caffeine wraps the loaders' IOExceptions
+            throw new UncheckedIOException("Failed to open chat archive for room " + chatRoomId,
+                    e.getCause() instanceof IOException io ? io : new IOException(e.getCause()));
+        }
+        if (messages.size() != toSeq - fromSeq + 1) {
+            log.warn("Chat archive for room {} is missing messages in seq {}..{}", chatRoomId, fromSeq, toSeq);
+        }
+        return messages;
+    }
+
+    // Removes segments starting at or after seq: leftovers of an archive run that rolled back
+    private void discardFrom(Long chatRoomId, long seq) throws IOException {
+        for (Map.Entry<Long, Path> segment : listSegments(chatRoomId).tailMap(seq, true).entrySet()) {
+            mapped.invalidate(segment.getValue());
+            Files.deleteIfExists(segment.getValue());
+            log.info("Discarded uncommitted chat archive segment {}", segment.getValue());
+        }
+    }
+
+    private NavigableMap<Long, Path> listSegments(Long chatRoomId) throws IOException {
+        NavigableMap<Long, Path> segments = new TreeMap<>();
+        Path roomDir = roomDir(chatRoomId);
+        if (!Files.isDirectory(roomDir)) {
+            return segments;
+        }
+        try (Stream<Path> files = Files.list(roomDir)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SUFFIX)).forEach(file -> {
+                String name = file.getFileName().toString();
+                segments.put(Long.parseLong(name.substring(0, name.indexOf('-'))), file);
+            });
+        }
+        return segments;
+    }
+
+    private static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    // Rooms are spread over 256 directories to keep directory listings short
+    private Path roomDir(Long chatRoomId) {
+        return root.resolve(String.format("%02x", chatRoomId & 0xff)).resolve(chatRoomId.toString());
+    }
+}
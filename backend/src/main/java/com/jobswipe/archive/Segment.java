@@ -0,0 +1,188 @@
+package com.jobswipe.archive;
+
+import com.jobswipe.domain.entity.MessageStatus;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * One immutable, memory-mapped segment file holding a contiguous seq range of one room.
+ * Layout: header (magic, version), deflate-compressed blocks of up to {@link #BLOCK_SIZE}
+ * messages, a sparse index with one entry per block (first seq, offset, compressed and raw
+ * length), and a footer pointing at the index. A read inflates only the blocks it needs.
+ */
+final class Segment {
+
+    static final int MAGIC = 0x4A534341; // "JSCA"
+    static final int VERSION = 1;
+    static final int BLOCK_SIZE = 64;
+
+    private final MappedByteBuffer buffer;
+    private final long[] firstSeqs;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final int[] rawLengths;
+
+    private Segment(MappedByteBuffer buffer, long[] firstSeqs, int[] offsets, int[] lengths, int[] rawLengths) {
+        this.buffer = buffer;
+        this.firstSeqs = firstSeqs;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.rawLengths = rawLengths;
+    }
+
+    static Segment open(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int size = buffer.capacity();
+        if (size < 16 || buffer.getInt(0) != MAGIC || buffer.getInt(size - 4) != MAGIC) {
+            throw new IOException("Not a chat archive segment: " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported chat archive segment version in " + file);
+        }
+        int at = buffer.getInt(size - 8);
+        int blocks = buffer.getInt(at);
+        at += 4;
+        long[] firstSeqs = new long[blocks];
+        int[] offsets = new int[blocks];
+        int[] lengths = new int[blocks];
+        int[] rawLengths = new int[blocks];
+        for (int i = 0; i < blocks; i++) {
+            firstSeqs[i] = buffer.getLong(at);
+            offsets[i] = buffer.getInt(at + 8);
+            lengths[i] = buffer.getInt(at + 12);
+            rawLengths[i] = buffer.getInt(at + 16);
+            at += 20;
+        }
+        return new Segment(buffer, firstSeqs, offsets, lengths, rawLengths);
+    }
+
+    // Writes messages, already in seq order, as a complete segment and forces it to disk
+    static void write(Path file, List<ArchivedMessage> messages) throws IOException {
+        int blocks = (messages.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        ByteArrayOutputStream index = new ByteArrayOutputStream(4 + blocks * 20);
+        DataOutputStream indexOut = new DataOutputStream(index);
+        indexOut.writeInt(blocks);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            int offset = 8;
+            for (int from = 0; from < messages.size(); from += BLOCK_SIZE) {
+                List<ArchivedMessage> block = messages.subList(from, Math.min(from + BLOCK_SIZE, messages.size()));
+                byte[] raw = encode(block);
+                byte[] compressed = deflate(raw);
+                out.write(compressed);
+                indexOut.writeLong(block.get(0).seq());
+                indexOut.writeInt(offset);
+                indexOut.writeInt(compressed.length);
+                indexOut.writeInt(raw.length);
+                offset += compressed.length;
+            }
+            index.writeTo(out);
+            out.writeInt(offset);
+            out.writeInt(MAGIC);
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    // Appends the messages with fromSeq <= seq <= toSeq to out, in seq order
+    void read(long fromSeq, long toSeq, List<ArchivedMessage> out) throws IOException {
+        int block = Arrays.binarySearch(firstSeqs, fromSeq);
+        if (block < 0) {
+            block = Math.max(0, -block - 2);
+        }
+        for (; block < firstSeqs.length && firstSeqs[block] <= toSeq; block++) {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(inflate(block)))) {
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    ArchivedMessage message = readMessage(in);
+                    if (message.seq() > toSeq) {
+                        return;
+                    }
+                    if (message.seq() >= fromSeq) {
+                        out.add(message);
+                    }
+                }
+            }
+        }
+    }
+
+    private byte[] inflate(int block) throws IOException {
+        // An absolute slice leaves the shared buffer's position alone, so reads can run concurrently
+        ByteBuffer compressed = buffer.slice(offsets[block], lengths[block]);
+        byte[] raw = new byte[rawLengths[block]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = inflater.inflate(raw);
+            if (read != raw.length) {
+                throw new IOException("Truncated chat archive block");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt chat archive block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] encode(List<ArchivedMessage> block) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(block.size());
+        for (ArchivedMessage message : block) {
+            out.writeLong(message.seq());
+            out.writeLong(message.id());
+            out.writeLong(message.senderId());
+            out.writeLong(message.createdAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(message.createdAt().getNano());
+            out.writeByte(message.status().ordinal());
+            out.writeUTF(message.content());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static ArchivedMessage readMessage(DataInputStream in) throws IOException {
+        long seq = in.readLong();
+        long id = in.readLong();
+        long senderId = in.readLong();
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        MessageStatus status = MessageStatus.values()[in.readByte()];
+        return new ArchivedMessage(seq, id, senderId, createdAt, status, in.readUTF());
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
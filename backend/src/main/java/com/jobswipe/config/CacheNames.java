@@ -0,0 +1,14 @@
+package com.jobswipe.config;
+
+/**
+ * Caffeine caches configured under spring.cache.* in application.properties.
+ */
+public final class CacheNames {
+
+    public static final String JOBS = "jobs";
+    public static final String COMPANIES = "companies";
+    public static final String COMPANY_PROFILES = "companyProfiles";
+
+    private CacheNames() {
+    }
+}
@@ -20,6 +20,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.enableSimpleBroker("/topic", "/queue");
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
+        // Events go out in the order they were sent per session, so replays cannot overtake live events
+        config.setPreservePublishOrder(true);
     }
 
     @Override
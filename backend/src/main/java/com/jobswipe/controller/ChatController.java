@@ -77,6 +77,25 @@ public class ChatController {
                 PageRequest.of(page, size, Sort.by("createdAt").descending())));
     }
 
+    // Each result carries chatRoomId and seq; open it with /room/{chatRoomId}/history?before=seq+1
+    @GetMapping("/search")
+    public ResponseEntity<ChatSearchResultDto> searchMessages(
+            @AuthenticationPrincipal User user,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(chatService.searchMessages(user.getId(), q, limit));
+    }
+
+    @GetMapping("/room/{chatRoomId}/history")
+    public ResponseEntity<MessageHistoryDto> getMessageHistory(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(chatService.getMessageHistory(user.getId(), chatRoomId, before, after, limit));
+    }
+
     @PostMapping("/room/{chatRoomId}/messages")
     public ResponseEntity<MessageDto> sendMessageToChatRoom(
             @AuthenticationPrincipal User user,
@@ -88,8 +107,9 @@ public class ChatController {
     @PutMapping("/room/{chatRoomId}/read")
     public ResponseEntity<Void> markChatRoomAsRead(
             @AuthenticationPrincipal User user,
-            @PathVariable Long chatRoomId) {
-        chatService.markChatRoomMessagesAsRead(user.getId(), chatRoomId);
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long seq) {
+        chatService.markChatRoomMessagesAsRead(user.getId(), chatRoomId, seq);
         return ResponseEntity.ok().build();
     }
 
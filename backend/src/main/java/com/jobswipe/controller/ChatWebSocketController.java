@@ -1,9 +1,14 @@
 package com.jobswipe.controller;
 
-import com.jobswipe.dto.chat.MessageDto;
+import com.jobswipe.dto.chat.DeliveryAckRequest;
+import com.jobswipe.dto.chat.ResumeRequest;
 import com.jobswipe.dto.chat.SendMessageRequest;
+import com.jobswipe.dto.chat.TypingRequest;
 import com.jobswipe.security.JwtTokenProvider;
 import com.jobswipe.service.ChatService;
+import com.jobswipe.service.support.DeliveryAckBuffer;
+import com.jobswipe.service.support.TypingIndicators;
+import com.jobswipe.service.support.UserEventReplayer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -20,6 +25,9 @@ public class ChatWebSocketController {
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TypingIndicators typingIndicators;
+    private final DeliveryAckBuffer deliveryAckBuffer;
+    private final UserEventReplayer userEventReplayer;
 
     @MessageMapping("/chat.send")
     public void sendMessage(@Payload SendMessageRequest request, SimpMessageHeaderAccessor headerAccessor) {
@@ -31,13 +39,66 @@ public class ChatWebSocketController {
             }
 
             Long userId = jwtTokenProvider.getUserIdFromToken(token);
-            MessageDto message = chatService.sendMessage(userId, request.getMatchId(), request.getContent());
-
-            // Broadcast to the chat topic
-            messagingTemplate.convertAndSend("/topic/chat." + request.getMatchId(), message);
-            log.info("Message sent to match {}", request.getMatchId());
+            // The inbound thread only queues the message; the broadcast follows the commit
+            chatService.sendMessageAsync(userId, request.getMatchId(), request.getContent())
+                    .whenComplete((message, failure) -> {
+                        if (failure != null) {
+                            log.error("Error sending message", failure);
+                            return;
+                        }
+                        // Broadcast to the chat topic
+                        messagingTemplate.convertAndSend("/topic/chat." + request.getMatchId(), message);
+                        log.info("Message sent to match {}", request.getMatchId());
+                    });
         } catch (Exception e) {
             log.error("Error sending message", e);
         }
     }
+
+    @MessageMapping("/chat.ack")
+    public void acknowledge(@Payload DeliveryAckRequest request, SimpMessageHeaderAccessor headerAccessor) {
+        try {
+            String token = (String) headerAccessor.getSessionAttributes().get("token");
+            if (token == null || request.getChatRoomId() == null || request.getSeq() == null) {
+                return;
+            }
+
+            Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            deliveryAckBuffer.ack(userId, request.getChatRoomId(), request.getSeq());
+        } catch (Exception e) {
+            log.debug("Ignoring delivery ack: {}", e.getMessage());
+        }
+    }
+
+    // Typing state never touches the database; TypingIndicators throttles and fans it out
+    @MessageMapping("/chat.typing")
+    public void typing(@Payload TypingRequest request, SimpMessageHeaderAccessor headerAccessor) {
+        try {
+            String token = (String) headerAccessor.getSessionAttributes().get("token");
+            if (token == null || request.getChatRoomId() == null) {
+                return;
+            }
+
+            Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            typingIndicators.update(userId, request.getChatRoomId(), request.isTyping());
+        } catch (Exception e) {
+            log.debug("Ignoring typing update: {}", e.getMessage());
+        }
+    }
+
+    // Sent by the client after every (re)connect to catch up on /user/queue/events
+    @MessageMapping("/events.resume")
+    public void resume(@Payload ResumeRequest request, SimpMessageHeaderAccessor headerAccessor) {
+        try {
+            String token = (String) headerAccessor.getSessionAttributes().get("token");
+            if (token == null) {
+                return;
+            }
+
+            Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            userEventReplayer.resume(userId, request);
+        } catch (Exception e) {
+            log.error("Error resuming event stream", e);
+        }
+    }
 }
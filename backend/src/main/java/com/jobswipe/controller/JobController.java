@@ -1,11 +1,15 @@
 package com.jobswipe.controller;
 
 import com.jobswipe.domain.entity.User;
+import com.jobswipe.dto.common.CursorPageDto;
 import com.jobswipe.dto.job.*;
+import com.jobswipe.exception.ApiException;
+import com.jobswipe.index.JobFilter;
 import com.jobswipe.service.JobService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -16,15 +20,55 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JobController {
 
+    private static final int MAX_SEARCH_RESULTS = 1000;
+
     private final JobService jobService;
 
     @GetMapping("/swipe")
     public ResponseEntity<Page<JobPostDto>> getJobsForSwipe(
             @AuthenticationPrincipal User user,
+            JobFilter filter,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return ResponseEntity.ok(jobService.getAvailableJobsForSeeker(user.getId(), pageable));
+        return ResponseEntity.ok(jobService.getAvailableJobsForSeeker(user.getId(), filter, pageable));
+    }
+
+    @GetMapping("/deck")
+    public ResponseEntity<CursorPageDto<JobPostDto>> getSwipeDeck(
+            @AuthenticationPrincipal User user,
+            JobFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(jobService.getSwipeDeck(user.getId(), filter, cursor, size));
+    }
+
+    @GetMapping("/ranked")
+    public ResponseEntity<List<JobPostDto>> getRankedJobs(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(jobService.getRankedJobsForSeeker(user.getId(), size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<JobPostDto>> searchJobs(
+            @RequestParam(required = false) String q,
+            JobFilter filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, 50)));
+        // Ranking keeps every hit up to the end of the page, so deep pages are refused
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_SEARCH_RESULTS) {
+            throw new ApiException("Search results are limited to the first " + MAX_SEARCH_RESULTS,
+                    HttpStatus.BAD_REQUEST);
+        }
+        return ResponseEntity.ok(jobService.searchJobs(q, filter, pageable));
+    }
+
+    // Open-job counts per type, location, industry and salary band under the given filter
+    @GetMapping("/facets")
+    public ResponseEntity<JobFacetsDto> getJobFacets(JobFilter filter) {
+        return ResponseEntity.ok(jobService.getJobFacets(filter));
     }
 
     @GetMapping("/{id}")
@@ -56,8 +100,8 @@ public class JobController {
     }
 
     @GetMapping("/company")
-    public ResponseEntity<List<JobPostDto>> getCompanyJobs(@AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(jobService.getCompanyJobs(user.getId()));
+    public ResponseEntity<List<JobPostDto>> getCompanyJobs(@AuthenticationPrincipal User user, JobFilter filter) {
+        return ResponseEntity.ok(jobService.getCompanyJobs(user.getId(), filter));
     }
 
     @PutMapping("/{id}/close")
@@ -5,11 +5,13 @@ import com.jobswipe.dto.swipe.*;
 import com.jobswipe.dto.application.ApplicationDto;
 import com.jobswipe.dto.profile.SeekerProfileDto;
 import com.jobswipe.service.SwipeService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api")
@@ -32,6 +34,20 @@ public class SwipeController {
         return ResponseEntity.ok(swipeService.swipeApplicant(user.getId(), request));
     }
 
+    @PostMapping("/swipes/job/batch")
+    public ResponseEntity<List<SwipeResponse>> swipeJobs(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BatchSwipeRequest request) {
+        return ResponseEntity.ok(swipeService.swipeJobs(user.getId(), request.getSwipes()));
+    }
+
+    @PostMapping("/swipes/applicant/batch")
+    public ResponseEntity<List<SwipeResponse>> swipeApplicants(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BatchSwipeRequest request) {
+        return ResponseEntity.ok(swipeService.swipeApplicants(user.getId(), request.getSwipes()));
+    }
+
     @GetMapping("/applications/seeker")
     public ResponseEntity<Page<ApplicationDto>> getSeekerApplications(
             @AuthenticationPrincipal User user,
@@ -2,6 +2,7 @@ package com.jobswipe.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 @Entity
@@ -16,7 +17,8 @@ import java.time.LocalDateTime;
 public class Application {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,6 +39,12 @@ public class Application {
     @Column(name = "reviewed_at")
     private LocalDateTime reviewedAt;
 
+    // Concurrent decisions on one application must not both commit: each would count its transition
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     @PrePersist
     protected void onCreate() {
         appliedAt = LocalDateTime.now();
@@ -2,11 +2,15 @@ package com.jobswipe.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "chat_rooms", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "user1_id", "user2_id" })
+}, indexes = {
+        @Index(name = "idx_chat_rooms_user1_activity", columnList = "user1_id, last_activity_at"),
+        @Index(name = "idx_chat_rooms_user2_activity", columnList = "user2_id, last_activity_at")
 })
 @Data
 @NoArgsConstructor
@@ -30,9 +34,49 @@ public class ChatRoom {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    // Inbox summary, maintained by atomic UPDATEs in ChatRoomRepository rather than through this entity.
+    // lastSeq is the newest message's sequence number; messages in this room are numbered 1..lastSeq
+    @Column(name = "last_seq", nullable = false)
+    @ColumnDefault("0")
+    private long lastSeq;
+
+    @Column(name = "last_message_preview", length = 200)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    // Last message time, or creation time for an empty room; the inbox sort key
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    // Messages up to this sequence number live in the cold archive, not in the messages table
+    @Column(name = "archived_up_to_seq", nullable = false)
+    @ColumnDefault("0")
+    private long archivedUpToSeq;
+
+    // Read watermarks: each participant has read every message up to this sequence number
+    @Column(name = "user1_read_seq", nullable = false)
+    @ColumnDefault("0")
+    private long user1ReadSeq;
+
+    @Column(name = "user2_read_seq", nullable = false)
+    @ColumnDefault("0")
+    private long user2ReadSeq;
+
+    // Delivery watermarks: each participant's client has received every message up to this sequence number
+    @Column(name = "user1_delivered_seq", nullable = false)
+    @ColumnDefault("0")
+    private long user1DeliveredSeq;
+
+    @Column(name = "user2_delivered_seq", nullable = false)
+    @ColumnDefault("0")
+    private long user2DeliveredSeq;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        lastActivityAt = createdAt;
     }
 
     // Helper method to check if a user is part of this chat
@@ -40,6 +84,19 @@ public class ChatRoom {
         return user1.getId().equals(userId) || user2.getId().equals(userId);
     }
 
+    public long getDeliveredSeqFor(Long userId) {
+        return user1.getId().equals(userId) ? user1DeliveredSeq : user2DeliveredSeq;
+    }
+
+    public long getReadSeqFor(Long userId) {
+        return user1.getId().equals(userId) ? user1ReadSeq : user2ReadSeq;
+    }
+
+    // Sending advances the sender's own watermark, so everything past it is from the other user
+    public long getUnreadFor(Long userId) {
+        return lastSeq - getReadSeqFor(userId);
+    }
+
     // Helper method to get the other user in the chat
     public User getOtherUser(Long userId) {
         return user1.getId().equals(userId) ? user2 : user1;
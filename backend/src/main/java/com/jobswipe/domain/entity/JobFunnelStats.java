@@ -0,0 +1,34 @@
+package com.jobswipe.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Per-job applicant counts by status, kept in step with application transitions
+@Entity
+@Table(name = "job_funnel_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobFunnelStats {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Builder.Default
+    private int pending = 0;
+
+    @Builder.Default
+    private int viewed = 0;
+
+    @Builder.Default
+    private int accepted = 0;
+
+    @Builder.Default
+    private int rejected = 0;
+
+    @Builder.Default
+    private int matches = 0;
+}
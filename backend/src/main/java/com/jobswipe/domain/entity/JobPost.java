@@ -7,7 +7,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "job_posts")
+@Table(name = "job_posts", indexes = {
+        @Index(name = "idx_job_posts_status_id", columnList = "status, id"),
+        @Index(name = "idx_job_posts_status_expires_at", columnList = "status, expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -57,6 +60,10 @@ public class JobPost {
     @Column(name = "closed_at")
     private LocalDateTime closedAt;
 
+    // Null means the job stays open until the company closes it
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,38 @@
+package com.jobswipe.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "job_skips", uniqueConstraints = {
+        @UniqueConstraint(columnNames = { "seeker_id", "job_id" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobSkip {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_skips_seq")
+    @SequenceGenerator(name = "job_skips_seq", sequenceName = "job_skips_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "seeker_id", nullable = false)
+    private SeekerProfile seeker;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    private JobPost job;
+
+    @Column(name = "skipped_at")
+    private LocalDateTime skippedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        skippedAt = LocalDateTime.now();
+    }
+}
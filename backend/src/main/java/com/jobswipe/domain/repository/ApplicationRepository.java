@@ -6,11 +6,16 @@ import com.jobswipe.domain.entity.JobPost;
 import com.jobswipe.domain.entity.SeekerProfile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
@@ -21,13 +26,43 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     Page<Application> findByJobAndStatus(JobPost job, ApplicationStatus status, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "seeker", "seeker.user" })
     @Query("SELECT a FROM Application a WHERE a.job = :job AND a.status NOT IN ('REJECTED', 'ACCEPTED')")
-    Page<Application> findPendingOrViewedByJob(@Param("job") JobPost job, Pageable pageable);
+    List<Application> findPendingOrViewedByJob(@Param("job") JobPost job);
+
+    // Conditional bulk transition; RETURNING yields only the rows this call actually moved
+    @Query(value = "UPDATE {h-schema}applications SET status = 'VIEWED', reviewed_at = :now, version = version + 1 " +
+            "WHERE id IN (:ids) AND status = 'PENDING' RETURNING id", nativeQuery = true)
+    List<Long> markViewed(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // Rejects every undecided application on the given jobs; rows are (applicationId, seekerUserId, jobTitle)
+    @Query(value = "UPDATE {h-schema}applications a SET status = 'REJECTED', reviewed_at = :now, version = a.version + 1 " +
+            "FROM {h-schema}seeker_profiles s, {h-schema}job_posts j " +
+            "WHERE a.job_id IN (:jobIds) AND a.status IN ('PENDING', 'VIEWED') " +
+            "AND s.id = a.seeker_id AND j.id = a.job_id " +
+            "RETURNING a.id, s.user_id, j.title", nativeQuery = true)
+    List<Object[]> rejectUndecidedByJobIdIn(@Param("jobIds") Collection<Long> jobIds,
+            @Param("now") LocalDateTime now);
 
     Optional<Application> findBySeekerAndJob(SeekerProfile seeker, JobPost job);
 
     boolean existsBySeekerAndJob(SeekerProfile seeker, JobPost job);
 
+    @Query("SELECT a.job.id FROM Application a WHERE a.seeker = :seeker AND a.job.id IN :jobIds")
+    List<Long> findJobIdsBySeekerAndJobIdIn(@Param("seeker") SeekerProfile seeker,
+            @Param("jobIds") Collection<Long> jobIds);
+
+    // Rows of (jobId, applicationId, status) for the seeker's applications among the given jobs
+    @Query("SELECT a.job.id, a.id, a.status FROM Application a WHERE a.seeker.id = :seekerId AND a.job.id IN :jobIds")
+    List<Object[]> findStatusesBySeekerAndJobIdIn(@Param("seekerId") Long seekerId,
+            @Param("jobIds") Collection<Long> jobIds);
+
+    @Query("SELECT a FROM Application a JOIN FETCH a.job JOIN FETCH a.seeker s JOIN FETCH s.user WHERE a.id IN :ids")
+    List<Application> findAllWithSeekerAndJobByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.seeker.id, a.job.id FROM Application a")
+    Stream<Object[]> streamSeekerJobPairs();
+
     @Query("SELECT a FROM Application a WHERE a.seeker = :seeker AND a.status != 'PENDING' ORDER BY a.reviewedAt DESC NULLS LAST")
     Page<Application> findViewedApplications(@Param("seeker") SeekerProfile seeker, Pageable pageable);
 }
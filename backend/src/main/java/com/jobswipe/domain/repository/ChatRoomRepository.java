@@ -3,9 +3,11 @@ package com.jobswipe.domain.repository;
 import com.jobswipe.domain.entity.ChatRoom;
 import com.jobswipe.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +19,69 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     @Query("SELECT c FROM ChatRoom c WHERE c.user1.id = :userId OR c.user2.id = :userId ORDER BY c.createdAt DESC")
     List<ChatRoom> findByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT c.id FROM ChatRoom c WHERE c.user1.id = :userId1 AND c.user2.id = :userId2")
+    Optional<Long> findIdByUsers(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
+
+    // Rows of (user1Id, user2Id), read from the foreign keys without loading the users
+    @Query("SELECT c.user1.id, c.user2.id FROM ChatRoom c WHERE c.id = :chatRoomId")
+    List<Object[]> findParticipantIds(@Param("chatRoomId") Long chatRoomId);
+
+    // Moves the user's delivery watermark forward to upToSeq (capped at last_seq). Returns the new
+    // watermark, or nothing when it would not move, in which case the row is not written.
+    @Query(value = "UPDATE {h-schema}chat_rooms SET " +
+            "user1_delivered_seq = CASE WHEN user1_id = :userId " +
+            "THEN LEAST(:upToSeq, last_seq) ELSE user1_delivered_seq END, " +
+            "user2_delivered_seq = CASE WHEN user2_id = :userId " +
+            "THEN LEAST(:upToSeq, last_seq) ELSE user2_delivered_seq END " +
+            "WHERE id = :roomId AND LEAST(:upToSeq, last_seq) > " +
+            "CASE WHEN user1_id = :userId THEN user1_delivered_seq ELSE user2_delivered_seq END " +
+            "RETURNING CASE WHEN user1_id = :userId THEN user1_delivered_seq ELSE user2_delivered_seq END",
+            nativeQuery = true)
+    List<Long> advanceDeliveredSeq(@Param("roomId") Long roomId, @Param("userId") Long userId,
+            @Param("upToSeq") long upToSeq);
+
+    @Query("SELECT c.archivedUpToSeq FROM ChatRoom c WHERE c.id = :chatRoomId")
+    Long findArchivedUpToSeq(@Param("chatRoomId") Long chatRoomId);
+
+    // Compare-and-set, so two archive runs cannot both move the boundary
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.archivedUpToSeq = :upToSeq WHERE c.id = :chatRoomId AND c.archivedUpToSeq = :expected")
+    int advanceArchivedUpToSeq(@Param("chatRoomId") Long chatRoomId, @Param("expected") long expected,
+            @Param("upToSeq") long upToSeq);
+
+    // The whole inbox in one query: rooms with both users, most recent activity first
+    @Query("SELECT c FROM ChatRoom c JOIN FETCH c.user1 JOIN FETCH c.user2 " +
+            "WHERE c.user1.id = :userId OR c.user2.id = :userId ORDER BY c.lastActivityAt DESC, c.id DESC")
+    List<ChatRoom> findInboxByUserId(@Param("userId") Long userId);
+
+    // Appends a block of messages to the room: reserves their sequence numbers (the returned
+    // last_seq is the newest) and moves the last-message summary forward. userNSent is the
+    // 1-based position in the block of that participant's last message, or 0; a sender has
+    // read everything up to their own message. Every SET sees the old last_seq. The row lock
+    // taken here is held until commit, so sequence order within a room is also commit order.
+    @Query(value = "UPDATE {h-schema}chat_rooms SET " +
+            "last_seq = last_seq + :count, " +
+            "last_message_preview = :preview, " +
+            "last_message_at = :sentAt, " +
+            "last_activity_at = :sentAt, " +
+            "user1_read_seq = CASE WHEN :user1Sent > 0 THEN last_seq + :user1Sent ELSE user1_read_seq END, " +
+            "user2_read_seq = CASE WHEN :user2Sent > 0 THEN last_seq + :user2Sent ELSE user2_read_seq END " +
+            "WHERE id = :roomId RETURNING last_seq", nativeQuery = true)
+    Long appendMessages(@Param("roomId") Long roomId,
+            @Param("count") int count,
+            @Param("user1Sent") int user1Sent,
+            @Param("user2Sent") int user2Sent,
+            @Param("preview") String preview,
+            @Param("sentAt") LocalDateTime sentAt);
+
+    // Moves the user's read watermark forward to upToSeq (capped at last_seq); returns the new watermark
+    @Query(value = "UPDATE {h-schema}chat_rooms SET " +
+            "user1_read_seq = CASE WHEN user1_id = :userId " +
+            "THEN GREATEST(user1_read_seq, LEAST(:upToSeq, last_seq)) ELSE user1_read_seq END, " +
+            "user2_read_seq = CASE WHEN user2_id = :userId " +
+            "THEN GREATEST(user2_read_seq, LEAST(:upToSeq, last_seq)) ELSE user2_read_seq END " +
+            "WHERE id = :roomId " +
+            "RETURNING CASE WHEN user1_id = :userId THEN user1_read_seq ELSE user2_read_seq END", nativeQuery = true)
+    Long advanceReadSeq(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("upToSeq") long upToSeq);
 }
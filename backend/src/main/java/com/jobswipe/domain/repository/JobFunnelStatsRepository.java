@@ -0,0 +1,59 @@
+package com.jobswipe.domain.repository;
+
+import com.jobswipe.domain.entity.JobFunnelStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobFunnelStatsRepository extends JpaRepository<JobFunnelStats, Long> {
+
+    // Recomputes rows from the applications and matches tables, creating any that are missing
+    String RECOUNT_SELECT = "SELECT j.id, " +
+            "COUNT(a.id) FILTER (WHERE a.status = 'PENDING'), " +
+            "COUNT(a.id) FILTER (WHERE a.status = 'VIEWED'), " +
+            "COUNT(a.id) FILTER (WHERE a.status = 'ACCEPTED'), " +
+            "COUNT(a.id) FILTER (WHERE a.status = 'REJECTED'), " +
+            "COUNT(m.id) " +
+            "FROM {h-schema}job_posts j " +
+            "LEFT JOIN {h-schema}applications a ON a.job_id = j.id " +
+            "LEFT JOIN {h-schema}matches m ON m.application_id = a.id ";
+
+    List<JobFunnelStats> findByJobIdIn(Collection<Long> jobIds);
+
+    // Atomic increment; the row is created on the first transition for a job
+    @Modifying
+    @Query(value = "INSERT INTO {h-schema}job_funnel_stats AS s (job_id, pending, viewed, accepted, rejected, matches) " +
+            "VALUES (:jobId, :pending, :viewed, :accepted, :rejected, :matches) " +
+            "ON CONFLICT (job_id) DO UPDATE SET pending = s.pending + EXCLUDED.pending, " +
+            "viewed = s.viewed + EXCLUDED.viewed, accepted = s.accepted + EXCLUDED.accepted, " +
+            "rejected = s.rejected + EXCLUDED.rejected, matches = s.matches + EXCLUDED.matches", nativeQuery = true)
+    int addDelta(@Param("jobId") Long jobId,
+            @Param("pending") int pending,
+            @Param("viewed") int viewed,
+            @Param("accepted") int accepted,
+            @Param("rejected") int rejected,
+            @Param("matches") int matches);
+
+    @Modifying
+    @Query(value = "INSERT INTO {h-schema}job_funnel_stats (job_id, pending, viewed, accepted, rejected, matches) " +
+            RECOUNT_SELECT + "WHERE j.id IN (:jobIds) GROUP BY j.id " +
+            "ON CONFLICT (job_id) DO UPDATE SET pending = EXCLUDED.pending, viewed = EXCLUDED.viewed, " +
+            "accepted = EXCLUDED.accepted, rejected = EXCLUDED.rejected, matches = EXCLUDED.matches",
+            nativeQuery = true)
+    int recount(@Param("jobIds") Collection<Long> jobIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO {h-schema}job_funnel_stats (job_id, pending, viewed, accepted, rejected, matches) " +
+            RECOUNT_SELECT + "WHERE NOT EXISTS (SELECT 1 FROM {h-schema}job_funnel_stats s WHERE s.job_id = j.id) " +
+            "GROUP BY j.id ON CONFLICT (job_id) DO NOTHING", nativeQuery = true)
+    int backfillMissing();
+
+    @Modifying
+    @Query("DELETE FROM JobFunnelStats s WHERE s.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
@@ -1,28 +1,98 @@
 package com.jobswipe.domain.repository;
 
-import com.jobswipe.domain.entity.CompanyProfile;
 import com.jobswipe.domain.entity.JobPost;
 import com.jobswipe.domain.entity.JobStatus;
+import com.jobswipe.domain.entity.JobType;
+import com.jobswipe.dto.job.JobCardRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobPostRepository extends JpaRepository<JobPost, Long> {
 
-        List<JobPost> findByCompany(CompanyProfile company);
+        String JOB_CARD_SELECT = "SELECT new com.jobswipe.dto.job.JobCardRow(j.id, j.title, j.location, j.type, " +
+                        "j.salaryMin, j.salaryMax, j.description, j.requirements, j.status, j.createdAt, j.expiresAt, " +
+                        "c.id, u.id, u.name, c.industry, c.location, c.logoUrl, c.description, c.website, c.size) " +
+                        "FROM JobPost j JOIN j.company c JOIN c.user u ";
 
-        Page<JobPost> findByStatus(JobStatus status, Pageable pageable);
+        // Optional feed filters; see JobFilter for the matching rules
+        String JOB_FILTER = "(:type IS NULL OR j.type = :type) " +
+                        "AND (:location IS NULL OR LOWER(j.location) LIKE :location ESCAPE '\\') " +
+                        "AND (:industry IS NULL OR LOWER(c.industry) = :industry) " +
+                        "AND (:salaryMin IS NULL OR COALESCE(j.salaryMax, j.salaryMin) >= :salaryMin) " +
+                        "AND (:salaryMax IS NULL OR COALESCE(j.salaryMin, j.salaryMax) <= :salaryMax) ";
 
-        @Query("SELECT j FROM JobPost j WHERE j.status = :status AND j.id NOT IN " +
-                        "(SELECT a.job.id FROM Application a WHERE a.seeker.id = :seekerId)")
-        Page<JobPost> findAvailableJobsForSeeker(@Param("seekerId") Long seekerId,
+        String NOT_SEEN_BY_SEEKER = "NOT EXISTS (SELECT 1 FROM Application a WHERE a.job = j AND a.seeker.id = :seekerId) " +
+                        "AND NOT EXISTS (SELECT 1 FROM JobSkip s WHERE s.job = j AND s.seeker.id = :seekerId) ";
+
+        @Query(value = JOB_CARD_SELECT + "WHERE j.status = :status AND " + NOT_SEEN_BY_SEEKER + "AND " + JOB_FILTER,
+                        countQuery = "SELECT COUNT(j) FROM JobPost j JOIN j.company c WHERE j.status = :status AND " +
+                                        NOT_SEEN_BY_SEEKER + "AND " + JOB_FILTER)
+        Page<JobCardRow> findAvailableCardsForSeeker(@Param("seekerId") Long seekerId,
+                        @Param("status") JobStatus status,
+                        @Param("type") JobType type,
+                        @Param("location") String locationPattern,
+                        @Param("industry") String industry,
+                        @Param("salaryMin") Integer salaryMin,
+                        @Param("salaryMax") Integer salaryMax,
+                        Pageable pageable);
+
+        // Keyset page of the swipe deck: newest first, strictly below the cursor id
+        @Query(JOB_CARD_SELECT + "WHERE j.status = :status AND j.id < :beforeId AND " + NOT_SEEN_BY_SEEKER +
+                        "AND " + JOB_FILTER + "ORDER BY j.id DESC")
+        List<JobCardRow> findSwipeDeckCards(@Param("seekerId") Long seekerId,
+                        @Param("status") JobStatus status,
+                        @Param("beforeId") Long beforeId,
+                        @Param("type") JobType type,
+                        @Param("location") String locationPattern,
+                        @Param("industry") String industry,
+                        @Param("salaryMin") Integer salaryMin,
+                        @Param("salaryMax") Integer salaryMax,
+                        Pageable pageable);
+
+        @Query(JOB_CARD_SELECT + "WHERE c.id = :companyId AND " + JOB_FILTER + "ORDER BY j.createdAt DESC")
+        List<JobCardRow> findCardsByCompanyId(@Param("companyId") Long companyId,
+                        @Param("type") JobType type,
+                        @Param("location") String locationPattern,
+                        @Param("industry") String industry,
+                        @Param("salaryMin") Integer salaryMin,
+                        @Param("salaryMax") Integer salaryMax);
+
+        @Query(value = JOB_CARD_SELECT + "WHERE c.id = :companyId AND j.status = :status",
+                        countQuery = "SELECT COUNT(j) FROM JobPost j WHERE j.company.id = :companyId AND j.status = :status")
+        Page<JobCardRow> findCardsByCompanyIdAndStatus(@Param("companyId") Long companyId,
                         @Param("status") JobStatus status,
                         Pageable pageable);
 
-        Page<JobPost> findByCompanyAndStatus(CompanyProfile company, JobStatus status, Pageable pageable);
+        @Query(JOB_CARD_SELECT + "WHERE j.id IN :ids")
+        List<JobCardRow> findCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+        @Query("SELECT j.id, s FROM JobPost j JOIN j.skills s WHERE j.id IN :ids")
+        List<Object[]> findSkillsByJobIdIn(@Param("ids") Collection<Long> ids);
+
+        @Query("SELECT j.id FROM JobPost j WHERE j.company.id = :companyId")
+        List<Long> findIdsByCompanyId(@Param("companyId") Long companyId);
+
+        @Query("SELECT j FROM JobPost j JOIN FETCH j.company c JOIN FETCH c.user WHERE j.id IN :ids")
+        List<JobPost> findAllWithCompanyByIdIn(@Param("ids") Collection<Long> ids);
+
+        @Query("SELECT j.id, s FROM JobPost j LEFT JOIN j.skills s WHERE j.status = :status")
+        Stream<Object[]> streamJobSkills(@Param("status") JobStatus status);
+
+        // Closes up to :limit expired open jobs in one statement; SKIP LOCKED lets another instance take the next batch
+        @Query(value = "UPDATE {h-schema}job_posts SET status = 'CLOSED', closed_at = :now WHERE id IN (" +
+                        "SELECT id FROM {h-schema}job_posts WHERE status = 'OPEN' AND expires_at <= :now " +
+                        "ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING id", nativeQuery = true)
+        List<Long> closeExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+        @Query(JOB_CARD_SELECT + "WHERE j.status = :status")
+        Stream<JobCardRow> streamCardsByStatus(@Param("status") JobStatus status);
 }
@@ -0,0 +1,40 @@
+package com.jobswipe.domain.repository;
+
+import com.jobswipe.domain.entity.JobSkip;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface JobSkipRepository extends JpaRepository<JobSkip, Long> {
+
+    @Query("SELECT s.seeker.id, s.job.id FROM JobSkip s")
+    Stream<Object[]> streamSeekerJobPairs();
+
+    // Returns 0 when the seeker has already skipped the job, e.g. from a concurrent request.
+    // The id is a whole block of job_skips_seq, so it cannot collide with ids Hibernate hands out
+    @Modifying
+    @Query(value = "INSERT INTO {h-schema}job_skips (id, seeker_id, job_id, skipped_at) " +
+            "VALUES (nextval('{h-schema}job_skips_seq'), :seekerId, :jobId, :skippedAt) " +
+            "ON CONFLICT (seeker_id, job_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("seekerId") Long seekerId, @Param("jobId") Long jobId,
+            @Param("skippedAt") LocalDateTime skippedAt);
+
+    // Batch form of insertIfAbsent; returns the ids of the jobs actually skipped now
+    @Query(value = "INSERT INTO {h-schema}job_skips (id, seeker_id, job_id, skipped_at) " +
+            "SELECT nextval('{h-schema}job_skips_seq'), :seekerId, j.id, :skippedAt " +
+            "FROM {h-schema}job_posts j WHERE j.id IN (:jobIds) ORDER BY j.id " +
+            "ON CONFLICT (seeker_id, job_id) DO NOTHING RETURNING job_id", nativeQuery = true)
+    List<Long> insertAllIfAbsent(@Param("seekerId") Long seekerId, @Param("jobIds") Collection<Long> jobIds,
+            @Param("skippedAt") LocalDateTime skippedAt);
+
+    @Modifying
+    @Query("DELETE FROM JobSkip s WHERE s.job.id = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
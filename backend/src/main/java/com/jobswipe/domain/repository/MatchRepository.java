@@ -14,6 +14,11 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
 
     Optional<Match> findByApplication(Application application);
 
+    // Rows of (seekerUserId, companyUserId)
+    @Query("SELECT s.user.id, c.user.id FROM Match m JOIN m.application a JOIN a.seeker s JOIN a.job j " +
+            "JOIN j.company c WHERE m.id = :matchId")
+    List<Object[]> findParticipantUserIds(@Param("matchId") Long matchId);
+
     @Query("SELECT m FROM Match m WHERE m.application.seeker.id = :seekerId ORDER BY m.matchedAt DESC")
     List<Match> findBySeekerIdOrderByMatchedAtDesc(@Param("seekerId") Long seekerId);
 
@@ -2,8 +2,6 @@ package com.jobswipe.domain.repository;
 
 import com.jobswipe.domain.entity.ChatRoom;
 import com.jobswipe.domain.entity.Message;
-import com.jobswipe.domain.entity.MessageStatus;
-import com.jobswipe.domain.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -20,11 +19,18 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
 
     List<Message> findByChatRoomOrderByCreatedAtAsc(ChatRoom chatRoom);
 
+    // Range read on (chat_room_id, seq); seqs within a room have no gaps
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender WHERE m.chatRoom.id = :chatRoomId " +
+            "AND m.seq BETWEEN :fromSeq AND :toSeq ORDER BY m.seq ASC")
+    List<Message> findSeqRange(@Param("chatRoomId") Long chatRoomId, @Param("fromSeq") long fromSeq,
+            @Param("toSeq") long toSeq);
+
+    // Rows of (chatRoomId, newest seq older than the cutoff); every such row is still unarchived
+    @Query("SELECT m.chatRoom.id, MAX(m.seq) FROM Message m WHERE m.createdAt < :cutoff GROUP BY m.chatRoom.id")
+    List<Object[]> findArchivableRooms(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
     @Modifying
-    @Query("UPDATE Message m SET m.status = :status WHERE m.chatRoom = :chatRoom AND m.sender != :user AND m.status != 'READ'")
-    int markMessagesAsRead(@Param("chatRoom") ChatRoom chatRoom, @Param("user") User user,
-            @Param("status") MessageStatus status);
+    @Query("DELETE FROM Message m WHERE m.chatRoom.id = :chatRoomId AND m.seq <= :upToSeq")
+    int deleteUpToSeq(@Param("chatRoomId") Long chatRoomId, @Param("upToSeq") long upToSeq);
 
-    @Query("SELECT COUNT(m) FROM Message m WHERE m.chatRoom = :chatRoom AND m.sender != :user AND m.status != 'READ'")
-    long countUnreadMessages(@Param("chatRoom") ChatRoom chatRoom, @Param("user") User user);
 }
@@ -0,0 +1,28 @@
+package com.jobswipe.domain.repository;
+
+import com.jobswipe.domain.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.nextAttemptAt <= :now ORDER BY e.id")
+    List<Long> findDispatchableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Lock timeout -2 is Hibernate's SKIP LOCKED, so concurrent dispatchers never claim the same rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id IN :ids ORDER BY e.id")
+    List<OutboxEvent> lockByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package com.jobswipe.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Matches from a chat search, newest first. {@code complete} is false while some of the
+ * user's history is not indexed yet; each search indexes more, so repeating it can find
+ * older matches.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatSearchResultDto {
+    private List<MessageDto> messages;
+    private boolean complete;
+}
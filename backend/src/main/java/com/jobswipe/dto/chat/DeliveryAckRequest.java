@@ -0,0 +1,14 @@
+package com.jobswipe.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Acks every message in the room up to seq; clients batch acks by sending only the highest seq received
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryAckRequest {
+    private Long chatRoomId;
+    private Long seq;
+}
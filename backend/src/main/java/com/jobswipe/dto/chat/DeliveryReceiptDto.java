@@ -0,0 +1,17 @@
+package com.jobswipe.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A participant's client has received every message in the room up to deliveredSeq
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeliveryReceiptDto {
+    private Long chatRoomId;
+    private Long userId;
+    private long deliveredSeq;
+}
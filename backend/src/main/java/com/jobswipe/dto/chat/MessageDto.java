@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 public class MessageDto {
     private Long id;
     private Long chatRoomId;
+    private Long seq;
     private Long senderId;
     private String senderName;
     private String content;
@@ -0,0 +1,23 @@
+package com.jobswipe.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * A contiguous run of a chat room's messages, oldest first. {@code hasMore} says whether
+ * the range continues past this batch in the requested direction; {@code lastSeq} is the
+ * room's newest sequence number, the cursor to resume from after a disconnect.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageHistoryDto {
+    private Long chatRoomId;
+    private List<MessageDto> messages;
+    private boolean hasMore;
+    private long lastSeq;
+}
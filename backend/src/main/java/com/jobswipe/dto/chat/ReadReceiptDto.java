@@ -0,0 +1,17 @@
+package com.jobswipe.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A participant has read every message in the room up to readSeq
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReadReceiptDto {
+    private Long chatRoomId;
+    private Long userId;
+    private long readSeq;
+}
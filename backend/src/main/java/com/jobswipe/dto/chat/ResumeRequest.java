@@ -0,0 +1,17 @@
+package com.jobswipe.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.Map;
+
+// Sent after a reconnect: the last event the client saw, and its newest seq per open chat room
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeRequest {
+    private String epoch;
+    private long lastSeq;
+    // Map<ChatRoomId, LastSeq>, used only when the replay buffer cannot cover the gap
+    private Map<Long, Long> rooms;
+}
@@ -0,0 +1,16 @@
+package com.jobswipe.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+// Messages missed in each room the client named; rooms with hasMore continue through /history
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResyncDto {
+    private List<MessageHistoryDto> rooms;
+}
@@ -0,0 +1,18 @@
+package com.jobswipe.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Clients should clear the indicator after expiresInMs even if no stop event arrives
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TypingEventDto {
+    private Long chatRoomId;
+    private Long userId;
+    private boolean typing;
+    private long expiresInMs;
+}
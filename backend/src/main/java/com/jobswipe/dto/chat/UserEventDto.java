@@ -0,0 +1,30 @@
+package com.jobswipe.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a user's event stream. seq increases by one per event within an epoch;
+ * delivery order is not guaranteed, so clients should apply events in seq order and drop
+ * ones they have already seen.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserEventDto {
+
+    public enum Type {
+        MESSAGE,
+        NOTIFICATION,
+        // The replay buffer could not cover the gap; payload is a ResyncDto read from the database
+        RESYNC
+    }
+
+    private String epoch;
+    private long seq;
+    private Type type;
+    private Object payload;
+}
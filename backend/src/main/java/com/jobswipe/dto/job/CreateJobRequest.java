@@ -1,8 +1,10 @@
 package com.jobswipe.dto.job;
 
 import com.jobswipe.domain.entity.JobType;
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -18,4 +20,8 @@ public class CreateJobRequest {
     private String description;
     private String requirements;
     private List<String> skills;
+
+    // Defaults to app.jobs.default-ttl-days from now when creating a job
+    @Future(message = "Expiry must be in the future")
+    private LocalDateTime expiresAt;
 }
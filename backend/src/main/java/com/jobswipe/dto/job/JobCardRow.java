@@ -0,0 +1,33 @@
+package com.jobswipe.dto.job;
+
+import com.jobswipe.domain.entity.JobStatus;
+import com.jobswipe.domain.entity.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.time.LocalDateTime;
+
+// Flat read model for a job card, filled by a JPQL constructor expression in one join query
+@Getter
+@AllArgsConstructor
+public class JobCardRow {
+    private Long id;
+    private String title;
+    private String location;
+    private JobType type;
+    private Integer salaryMin;
+    private Integer salaryMax;
+    private String description;
+    private String requirements;
+    private JobStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private Long companyId;
+    private Long companyUserId;
+    private String companyName;
+    private String companyIndustry;
+    private String companyLocation;
+    private String companyLogoUrl;
+    private String companyDescription;
+    private String companyWebsite;
+    private String companySize;
+}
@@ -0,0 +1,33 @@
+package com.jobswipe.dto.job;
+
+import com.jobswipe.domain.entity.JobType;
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class JobFacetsDto {
+    private int total;
+    private Map<JobType, Integer> types;
+    private List<Bucket> locations;
+    private List<Bucket> industries;
+    private List<SalaryBand> salaryBands;
+
+    @Data
+    @Builder
+    public static class Bucket {
+        private String value;
+        private int count;
+    }
+
+    @Data
+    @Builder
+    public static class SalaryBand {
+        private Integer min;
+        // Null for the open-ended top band
+        private Integer max;
+        private int count;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobswipe.dto.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobFunnelDto {
+    private int pending;
+    private int viewed;
+    private int accepted;
+    private int rejected;
+    private int matches;
+}
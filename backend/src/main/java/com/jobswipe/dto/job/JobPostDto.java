@@ -22,5 +22,8 @@ public class JobPostDto {
     private List<String> skills;
     private JobStatus status;
     private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
     private CompanyProfileDto company;
+    // Applicant counts by status; only filled on the owning company's job list
+    private JobFunnelDto funnel;
 }
@@ -0,0 +1,19 @@
+package com.jobswipe.dto.notification;
+
+import com.jobswipe.domain.entity.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationRequest {
+    private Long userId;
+    private NotificationType type;
+    private String title;
+    private String message;
+    private Long relatedId;
+}
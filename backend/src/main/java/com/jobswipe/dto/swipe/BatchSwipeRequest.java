@@ -0,0 +1,14 @@
+package com.jobswipe.dto.swipe;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class BatchSwipeRequest {
+
+    @NotEmpty(message = "At least one swipe is required")
+    @Size(max = 100, message = "At most 100 swipes per batch")
+    private List<SwipeRequest> swipes;
+}
@@ -0,0 +1,199 @@
+package com.jobswipe.index;
+
+import com.jobswipe.domain.entity.Application;
+import com.jobswipe.domain.entity.JobPost;
+import com.jobswipe.domain.entity.SeekerProfile;
+import com.jobswipe.domain.repository.ApplicationRepository;
+import com.jobswipe.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Per-job applicant order by profile fit. Each job's ranking is built lazily on the
+ * first review, then kept sorted incrementally as applications arrive and get decided.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicantRankingIndex {
+
+    private static final double SKILL_WEIGHT = 3.0;
+    private static final double REQUIREMENT_WEIGHT = 1.0;
+    private static final double LOCATION_WEIGHT = 2.0;
+
+    private final ApplicationRepository applicationRepository;
+    private final SkillDictionary skillDictionary;
+
+    // Map<JobId, Ranking>
+    private final Map<Long, JobRanking> rankings = new ConcurrentHashMap<>();
+
+    // Must run inside a transaction so the seekers' lazy skills can be read while building
+    public Page<Long> page(JobPost job, Pageable pageable) {
+        JobRanking ranking = rankings.get(job.getId());
+        if (ranking == null) {
+            // Published before it is built, so changes committed during the build are not lost;
+            // built outside any map lock so a slow query never blocks other jobs' lookups
+            JobRanking created = new JobRanking(jobProfile(job));
+            ranking = rankings.putIfAbsent(job.getId(), created);
+            if (ranking == null) {
+                ranking = created;
+                build(job, created);
+            }
+        }
+        ranking.awaitBuilt();
+
+        List<Long> ids = new ArrayList<>(pageable.getPageSize());
+        Iterator<RankedApplicant> it = ranking.ordered.iterator();
+        for (long skip = pageable.getOffset(); skip > 0 && it.hasNext(); skip--) {
+            it.next();
+        }
+        while (it.hasNext() && ids.size() < pageable.getPageSize()) {
+            ids.add(it.next().applicationId());
+        }
+        return new PageImpl<>(ids, pageable, ranking.byApplication.size());
+    }
+
+    public void applicationAdded(Application application) {
+        Long jobId = application.getJob().getId();
+        Long applicationId = application.getId();
+        // Profiled now while the seeker is still attached; the ranking is looked up after commit,
+        // when a build that has not started yet is sure to read the application itself
+        ApplicantProfile applicant = applicantProfile(application.getSeeker());
+        TransactionCallbacks.afterCommit(() -> {
+            JobRanking ranking = rankings.get(jobId);
+            if (ranking != null) {
+                ranking.add(new RankedApplicant(applicationId, ranking.job.score(applicant)));
+            }
+        });
+    }
+
+    public void applicationDecided(Long jobId, Long applicationId) {
+        TransactionCallbacks.afterCommit(() -> {
+            JobRanking ranking = rankings.get(jobId);
+            if (ranking != null) {
+                ranking.remove(applicationId);
+            }
+        });
+    }
+
+    // The job's skills, requirements or location changed (or it closed): rescore on next review
+    public void invalidate(Long jobId) {
+        TransactionCallbacks.afterCommit(() -> rankings.remove(jobId));
+    }
+
+    private void build(JobPost job, JobRanking ranking) {
+        try {
+            for (Application application : applicationRepository.findPendingOrViewedByJob(job)) {
+                ranking.addFromBuild(new RankedApplicant(application.getId(),
+                        ranking.job.score(applicantProfile(application.getSeeker()))));
+            }
+            ranking.finishBuild(null);
+        } catch (RuntimeException e) {
+            rankings.remove(job.getId(), ranking);
+            ranking.finishBuild(e);
+            throw e;
+        }
+    }
+
+    private static final class JobRanking {
+        private final JobProfile job;
+        private final NavigableSet<RankedApplicant> ordered = new ConcurrentSkipListSet<>();
+        private final Map<Long, RankedApplicant> byApplication = new ConcurrentHashMap<>();
+        private final CompletableFuture<Void> built = new CompletableFuture<>();
+        // Applications decided while building; the build may have read them before the decision
+        private Set<Long> decidedDuringBuild = new HashSet<>();
+
+        private JobRanking(JobProfile job) {
+            this.job = job;
+        }
+
+        private void awaitBuilt() {
+            try {
+                built.join();
+            } catch (CompletionException e) {
+                throw new IllegalStateException("Building the applicant ranking failed", e.getCause());
+            }
+        }
+
+        private synchronized void addFromBuild(RankedApplicant ranked) {
+            if (!decidedDuringBuild.contains(ranked.applicationId())) {
+                add(ranked);
+            }
+        }
+
+        private synchronized void finishBuild(RuntimeException error) {
+            decidedDuringBuild = null;
+            if (error == null) {
+                built.complete(null);
+            } else {
+                built.completeExceptionally(error);
+            }
+        }
+
+        private synchronized void add(RankedApplicant ranked) {
+            RankedApplicant previous = byApplication.put(ranked.applicationId(), ranked);
+            if (previous != null) {
+                ordered.remove(previous);
+            }
+            ordered.add(ranked);
+        }
+
+        private synchronized void remove(Long applicationId) {
+            if (decidedDuringBuild != null) {
+                decidedDuringBuild.add(applicationId);
+            }
+            RankedApplicant previous = byApplication.remove(applicationId);
+            if (previous != null) {
+                ordered.remove(previous);
+            }
+        }
+    }
+
+    private JobProfile jobProfile(JobPost job) {
+        SkillSet skills = skillDictionary.encode(job.getSkills());
+        // Known skills only mentioned in the free-text requirements, scored lower than listed ones
+        SkillSet mentioned = skillDictionary.mentionedIn(job.getRequirements()).minus(skills);
+        return new JobProfile(skills, mentioned, normalizeLocation(job.getLocation()));
+    }
+
+    private ApplicantProfile applicantProfile(SeekerProfile seeker) {
+        // Seekers never grow the dictionary; requirement mentions only resolve to skills some job lists
+        return new ApplicantProfile(skillDictionary.encodeKnown(seeker.getSkills()),
+                normalizeLocation(seeker.getLocation()));
+    }
+
+    private record JobProfile(SkillSet skills, SkillSet mentioned, String location) {
+
+        double score(ApplicantProfile applicant) {
+            double score = SKILL_WEIGHT * skills.overlap(applicant.skills())
+                    + REQUIREMENT_WEIGHT * mentioned.overlap(applicant.skills());
+            if (location != null && (location.equals(applicant.location()) || location.contains("remote"))) {
+                score += LOCATION_WEIGHT;
+            }
+            return score;
+        }
+    }
+
+    private record ApplicantProfile(SkillSet skills, String location) {
+    }
+
+    private record RankedApplicant(long applicationId, double score) implements Comparable<RankedApplicant> {
+        @Override
+        public int compareTo(RankedApplicant other) {
+            int byScore = Double.compare(other.score, score);
+            // Equal fit: whoever applied first comes first
+            return byScore != 0 ? byScore : Long.compare(applicationId, other.applicationId);
+        }
+    }
+
+    private static String normalizeLocation(String location) {
+        return location == null || location.isBlank() ? null : location.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,215 @@
+package com.jobswipe.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobswipe.dto.chat.MessageDto;
+import jakarta.annotation.PostConstruct;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Inverted index over chat message text, one per room, mapping terms to message seqs.
+ * A room's index covers a contiguous seq range that ends at (or just short of) the room's
+ * newest message: it grows upward as messages are committed and downward, newest history
+ * first, as searches spend their indexing budget on it. Rooms are evicted least recently
+ * used once the indexed message count passes the configured limit.
+ */
+@Component
+public class ChatSearchIndex {
+
+    @Value("${app.chat.search.max-indexed-messages:5000000}")
+    private long maxIndexedMessages;
+
+    private Cache<Long, RoomIndex> rooms;
+
+    @PostConstruct
+    void init() {
+        rooms = Caffeine.newBuilder()
+                .maximumWeight(maxIndexedMessages)
+                .weigher((Long roomId, RoomIndex room) -> room.weight())
+                .build();
+    }
+
+    /**
+     * The room's index, created empty at lastSeq if it has none. Searches hold on to the
+     * returned index, so eviction while a search runs cannot drop its hits.
+     */
+    public RoomIndex room(Long chatRoomId, long lastSeq) {
+        return rooms.get(chatRoomId, id -> new RoomIndex(chatRoomId, lastSeq));
+    }
+
+    // A newly committed message; ignored unless the room is loaded and caught up to it
+    public void messageAdded(Long chatRoomId, long seq, String content, LocalDateTime createdAt) {
+        RoomIndex room = rooms.getIfPresent(chatRoomId);
+        if (room != null && room.addNewest(seq, content, createdAt)) {
+            reweigh(room);
+        }
+    }
+
+    /**
+     * Indexes messages read for fromSeq..toSeq: newer ones continuing the top of the index,
+     * or older ones continuing its bottom. Ranges that no longer line up with the index (a
+     * concurrent search got there first) are ignored; seqs missing from the list count as empty.
+     */
+    public void extend(RoomIndex room, long fromSeq, long toSeq, List<MessageDto> messages) {
+        if (room.extend(fromSeq, toSeq, messages)) {
+            reweigh(room);
+        }
+    }
+
+    /**
+     * Messages in the given rooms containing every term, newest first. Terms must come
+     * from {@link TextAnalyzer#terms}; only the indexed part of each room is searched.
+     */
+    public List<Hit> search(Collection<RoomIndex> indexes, List<String> terms, int limit) {
+        // Min-heap on time keeps only the newest hits
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1);
+        for (RoomIndex room : indexes) {
+            synchronized (room) {
+                RoaringBitmap matches = room.matching(terms);
+                IntIterator it = matches.getReverseIntIterator();
+                while (it.hasNext()) {
+                    int seq = it.next();
+                    Hit hit = new Hit(room.chatRoomId, seq, room.sentAt(seq));
+                    if (heap.size() == limit && hit.compareTo(heap.peek()) <= 0) {
+                        // Older seqs in this room were sent no later than this one
+                        break;
+                    }
+                    heap.offer(hit);
+                    if (heap.size() > limit) {
+                        heap.poll();
+                    }
+                }
+            }
+        }
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(Comparator.reverseOrder());
+        return hits;
+    }
+
+    // Caffeine weighs an entry when it is written; replace() leaves an evicted room evicted
+    private void reweigh(RoomIndex room) {
+        rooms.asMap().replace(room.chatRoomId, room, room);
+    }
+
+    public record Hit(Long chatRoomId, long seq, long sentAt) implements Comparable<Hit> {
+        @Override
+        public int compareTo(Hit other) {
+            int byTime = Long.compare(sentAt, other.sentAt);
+            if (byTime != 0) {
+                return byTime;
+            }
+            int bySeq = Long.compare(seq, other.seq);
+            return bySeq != 0 ? bySeq : Long.compare(chatRoomId, other.chatRoomId);
+        }
+    }
+
+    /**
+     * One room's postings. Indexed seqs are low+1..high; everything at or below low is
+     * still to be read, as is anything above high the room has gained since.
+     */
+    public static final class RoomIndex {
+        private final Long chatRoomId;
+        // Map<Term, Seqs>
+        private final Map<String, RoaringBitmap> seqsByTerm = new HashMap<>();
+        // Send time per indexed seq in epoch seconds, to merge hits across rooms; times[i] is seq base + i
+        private long[] times = new long[16];
+        private long base;
+        private long low;
+        private long high;
+
+        private RoomIndex(Long chatRoomId, long lastSeq) {
+            this.chatRoomId = chatRoomId;
+            this.low = lastSeq;
+            this.high = lastSeq;
+            this.base = lastSeq + 1;
+        }
+
+        public synchronized long low() {
+            return low;
+        }
+
+        public synchronized long high() {
+            return high;
+        }
+
+        private synchronized int weight() {
+            return (int) Math.min(Integer.MAX_VALUE, high - low);
+        }
+
+        private synchronized boolean addNewest(long seq, String content, LocalDateTime createdAt) {
+            if (seq != high + 1) {
+                return false;
+            }
+            add(seq, content, createdAt);
+            high = seq;
+            return true;
+        }
+
+        private synchronized boolean extend(long fromSeq, long toSeq, List<MessageDto> messages) {
+            if (fromSeq <= high + 1 && toSeq > high) {
+                for (MessageDto message : messages) {
+                    if (message.getSeq() > high && message.getSeq() <= toSeq) {
+                        add(message.getSeq(), message.getContent(), message.getCreatedAt());
+                    }
+                }
+                high = toSeq;
+                return true;
+            }
+            if (fromSeq <= low && toSeq >= low) {
+                for (MessageDto message : messages) {
+                    if (message.getSeq() >= fromSeq && message.getSeq() <= low) {
+                        add(message.getSeq(), message.getContent(), message.getCreatedAt());
+                    }
+                }
+                low = fromSeq - 1;
+                return true;
+            }
+            return false;
+        }
+
+        private void add(long seq, String content, LocalDateTime createdAt) {
+            ensureCapacity(seq);
+            times[(int) (seq - base)] = createdAt == null ? 0 : createdAt.toEpochSecond(ZoneOffset.UTC);
+            for (String term : TextAnalyzer.terms(content)) {
+                seqsByTerm.computeIfAbsent(term, k -> new RoaringBitmap()).add(Math.toIntExact(seq));
+            }
+        }
+
+        // Grows the times array in either direction, doubling so repeated extensions stay cheap
+        private void ensureCapacity(long seq) {
+            if (seq >= base && seq - base < times.length) {
+                return;
+            }
+            long from = Math.min(seq, base);
+            long to = Math.max(seq, base + times.length - 1);
+            int length = (int) Math.max(to - from + 1, times.length * 2L);
+            long newBase = seq < base ? Math.max(1, to - length + 1) : base;
+            long[] grown = new long[(int) (Math.max(to, newBase + length - 1) - newBase + 1)];
+            System.arraycopy(times, 0, grown, (int) (base - newBase), times.length);
+            times = grown;
+            base = newBase;
+        }
+
+        private long sentAt(long seq) {
+            return times[(int) (seq - base)];
+        }
+
+        private RoaringBitmap matching(List<String> terms) {
+            RoaringBitmap matches = null;
+            for (String term : terms) {
+                RoaringBitmap seqs = seqsByTerm.get(term);
+                if (seqs == null) {
+                    return new RoaringBitmap();
+                }
+                matches = matches == null ? seqs.clone() : RoaringBitmap.and(matches, seqs);
+            }
+            return matches == null ? new RoaringBitmap() : matches;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.jobswipe.index;
+
+import com.jobswipe.domain.entity.JobStatus;
+import com.jobswipe.domain.entity.JobType;
+import com.jobswipe.domain.repository.JobPostRepository;
+import com.jobswipe.dto.job.JobCardRow;
+import com.jobswipe.dto.job.JobFacetsDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Open jobs bucketed by type, location, company industry and salary band, one bitmap
+ * per bucket. Facet counts are bitmap cardinalities, and {@link #matching} resolves a
+ * {@link JobFilter} to job ids for the search index.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobFacetIndex {
+
+    // Lower bounds of the salary bands shown as facets; the last band is open-ended
+    private static final int[] SALARY_BANDS = {0, 30_000, 60_000, 100_000, 150_000};
+
+    private final JobPostRepository jobPostRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, FacetDoc> docs = new HashMap<>();
+    private final RoaringBitmap openJobs = new RoaringBitmap();
+    private final Map<JobType, RoaringBitmap> byType = new EnumMap<>(JobType.class);
+    private final Map<String, Bucket> byLocation = new HashMap<>();
+    private final Map<String, Bucket> byIndustry = new HashMap<>();
+    private final RoaringBitmap[] bySalaryBand = new RoaringBitmap[SALARY_BANDS.length];
+    // Map<CompanyProfileId, JobIds>, to rebucket a company's jobs when its industry changes
+    private final Map<Long, RoaringBitmap> byCompany = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try (Stream<JobCardRow> cards = jobPostRepository.streamCardsByStatus(JobStatus.OPEN)) {
+            docs.clear();
+            openJobs.clear();
+            byType.clear();
+            byLocation.clear();
+            byIndustry.clear();
+            byCompany.clear();
+            Arrays.fill(bySalaryBand, null);
+            cards.forEach(card -> indexLocked(Math.toIntExact(card.getId()), new FacetDoc(card.getCompanyId(),
+                    card.getType(), card.getLocation(), card.getCompanyIndustry(), card.getSalaryMin(),
+                    card.getSalaryMax())));
+            log.info("Job facet index built: {} open jobs, {} locations, {} industries", docs.size(),
+                    byLocation.size(), byIndustry.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Long jobId, FacetDoc doc) {
+        int id = Math.toIntExact(jobId);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            indexLocked(id, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(Math.toIntExact(jobId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void companyIndustryChanged(Long companyId, String industry) {
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap jobs = byCompany.get(companyId);
+            if (jobs == null) {
+                return;
+            }
+            for (int jobId : jobs.toArray()) {
+                FacetDoc doc = docs.get(jobId);
+                removeLocked(jobId);
+                indexLocked(jobId, new FacetDoc(doc.companyId(), doc.type(), doc.location(), industry,
+                        doc.salaryMin(), doc.salaryMax()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Open job ids passing the filter; a fresh bitmap the caller may modify
+    public RoaringBitmap matching(JobFilter filter) {
+        lock.readLock().lock();
+        try {
+            return matchingLocked(filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts per bucket under the filter. Each dimension is counted with its own
+     * constraint lifted, so the client can show how a selection would change.
+     */
+    public JobFacetsDto counts(JobFilter filter) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap forType = matchingLocked(filter.withType(null));
+            Map<JobType, Integer> types = new EnumMap<>(JobType.class);
+            byType.forEach((type, jobs) -> types.put(type, RoaringBitmap.andCardinality(forType, jobs)));
+
+            RoaringBitmap forSalary = matchingLocked(filter.withSalary(null, null));
+            List<JobFacetsDto.SalaryBand> salaryBands = new ArrayList<>(SALARY_BANDS.length);
+            for (int band = 0; band < SALARY_BANDS.length; band++) {
+                RoaringBitmap jobs = bySalaryBand[band];
+                salaryBands.add(JobFacetsDto.SalaryBand.builder()
+                        .min(SALARY_BANDS[band])
+                        .max(band + 1 < SALARY_BANDS.length ? SALARY_BANDS[band + 1] - 1 : null)
+                        .count(jobs == null ? 0 : RoaringBitmap.andCardinality(forSalary, jobs))
+                        .build());
+            }
+
+            return JobFacetsDto.builder()
+                    .total(matchingLocked(filter).getCardinality())
+                    .types(types)
+                    .locations(bucketCounts(byLocation, matchingLocked(filter.withLocation(null))))
+                    .industries(bucketCounts(byIndustry, matchingLocked(filter.withIndustry(null))))
+                    .salaryBands(salaryBands)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap matchingLocked(JobFilter filter) {
+        RoaringBitmap result = openJobs.clone();
+        if (filter.type() != null) {
+            result.and(byType.getOrDefault(filter.type(), new RoaringBitmap()));
+        }
+        if (filter.location() != null) {
+            // Substring match: union every location bucket containing the text
+            RoaringBitmap located = new RoaringBitmap();
+            byLocation.forEach((key, bucket) -> {
+                if (key.contains(filter.location())) {
+                    located.or(bucket.jobs);
+                }
+            });
+            result.and(located);
+        }
+        if (filter.industry() != null) {
+            Bucket bucket = byIndustry.get(filter.industry());
+            result.and(bucket == null ? new RoaringBitmap() : bucket.jobs);
+        }
+        if (filter.salaryMin() != null || filter.salaryMax() != null) {
+            RoaringBitmap outOfRange = new RoaringBitmap();
+            IntIterator it = result.getIntIterator();
+            while (it.hasNext()) {
+                int jobId = it.next();
+                FacetDoc doc = docs.get(jobId);
+                if (!filter.salaryMatches(doc.salaryMin(), doc.salaryMax())) {
+                    outOfRange.add(jobId);
+                }
+            }
+            result.andNot(outOfRange);
+        }
+        return result;
+    }
+
+    private void indexLocked(int jobId, FacetDoc doc) {
+        docs.put(jobId, doc);
+        openJobs.add(jobId);
+        if (doc.type() != null) {
+            byType.computeIfAbsent(doc.type(), t -> new RoaringBitmap()).add(jobId);
+        }
+        addToBucket(byLocation, doc.location(), jobId);
+        addToBucket(byIndustry, doc.industry(), jobId);
+        for (int band : salaryBands(doc)) {
+            if (bySalaryBand[band] == null) {
+                bySalaryBand[band] = new RoaringBitmap();
+            }
+            bySalaryBand[band].add(jobId);
+        }
+        if (doc.companyId() != null) {
+            byCompany.computeIfAbsent(doc.companyId(), c -> new RoaringBitmap()).add(jobId);
+        }
+    }
+
+    private void removeLocked(int jobId) {
+        FacetDoc doc = docs.remove(jobId);
+        if (doc == null) {
+            return;
+        }
+        openJobs.remove(jobId);
+        if (doc.type() != null) {
+            byType.get(doc.type()).remove(jobId);
+        }
+        removeFromBucket(byLocation, doc.location(), jobId);
+        removeFromBucket(byIndustry, doc.industry(), jobId);
+        for (int band : salaryBands(doc)) {
+            bySalaryBand[band].remove(jobId);
+        }
+        if (doc.companyId() != null) {
+            RoaringBitmap jobs = byCompany.get(doc.companyId());
+            jobs.remove(jobId);
+            if (jobs.isEmpty()) {
+                byCompany.remove(doc.companyId());
+            }
+        }
+    }
+
+    // A job is counted in every band its advertised range overlaps
+    private static List<Integer> salaryBands(FacetDoc doc) {
+        Integer low = doc.salaryMin() != null ? doc.salaryMin() : doc.salaryMax();
+        Integer high = doc.salaryMax() != null ? doc.salaryMax() : doc.salaryMin();
+        if (low == null) {
+            return List.of();
+        }
+        List<Integer> bands = new ArrayList<>(2);
+        for (int band = 0; band < SALARY_BANDS.length; band++) {
+            int bandMax = band + 1 < SALARY_BANDS.length ? SALARY_BANDS[band + 1] - 1 : Integer.MAX_VALUE;
+            if (high >= SALARY_BANDS[band] && low <= bandMax) {
+                bands.add(band);
+            }
+        }
+        return bands;
+    }
+
+    private static void addToBucket(Map<String, Bucket> buckets, String label, int jobId) {
+        String key = JobFilter.normalize(label);
+        if (key != null) {
+            // The first spelling seen becomes the display label
+            buckets.computeIfAbsent(key, k -> new Bucket(label.trim())).jobs.add(jobId);
+        }
+    }
+
+    private static void removeFromBucket(Map<String, Bucket> buckets, String label, int jobId) {
+        String key = JobFilter.normalize(label);
+        Bucket bucket = key == null ? null : buckets.get(key);
+        if (bucket != null) {
+            bucket.jobs.remove(jobId);
+            if (bucket.jobs.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private static List<JobFacetsDto.Bucket> bucketCounts(Map<String, Bucket> buckets, RoaringBitmap base) {
+        List<JobFacetsDto.Bucket> counts = new ArrayList<>();
+        buckets.forEach((key, bucket) -> {
+            int count = RoaringBitmap.andCardinality(base, bucket.jobs);
+            if (count > 0) {
+                counts.add(JobFacetsDto.Bucket.builder().value(bucket.label).count(count).build());
+            }
+        });
+        counts.sort(Comparator.comparingInt(JobFacetsDto.Bucket::getCount).reversed()
+                .thenComparing(JobFacetsDto.Bucket::getValue));
+        return counts;
+    }
+
+    public record FacetDoc(Long companyId, JobType type, String location, String industry,
+            Integer salaryMin, Integer salaryMax) {
+    }
+
+    private static final class Bucket {
+        private final String label;
+        private final RoaringBitmap jobs = new RoaringBitmap();
+
+        private Bucket(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.jobswipe.index;
+
+import com.jobswipe.domain.entity.JobType;
+import java.util.Locale;
+
+/**
+ * Optional constraints on job listings, shared by the feed queries, search and facets.
+ * Location matches case-insensitively as a substring and industry as a whole value. A
+ * salary bound matches jobs whose advertised range overlaps it; jobs without a salary
+ * never match a salary bound.
+ */
+public record JobFilter(JobType type, String location, String industry, Integer salaryMin, Integer salaryMax) {
+
+    public static final JobFilter NONE = new JobFilter(null, null, null, null, null);
+
+    public JobFilter {
+        location = normalize(location);
+        industry = normalize(industry);
+    }
+
+    public boolean isEmpty() {
+        return type == null && location == null && industry == null && salaryMin == null && salaryMax == null;
+    }
+
+    // LIKE pattern for the JPQL feed queries, or null when there is no location filter
+    public String locationPattern() {
+        return location == null ? null : "%" + location.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    public JobFilter withType(JobType type) {
+        return new JobFilter(type, location, industry, salaryMin, salaryMax);
+    }
+
+    public JobFilter withLocation(String location) {
+        return new JobFilter(type, location, industry, salaryMin, salaryMax);
+    }
+
+    public JobFilter withIndustry(String industry) {
+        return new JobFilter(type, location, industry, salaryMin, salaryMax);
+    }
+
+    public JobFilter withSalary(Integer salaryMin, Integer salaryMax) {
+        return new JobFilter(type, location, industry, salaryMin, salaryMax);
+    }
+
+    // Whether a job advertising [low, high] overlaps the requested band
+    public boolean salaryMatches(Integer low, Integer high) {
+        if (salaryMin == null && salaryMax == null) {
+            return true;
+        }
+        Integer from = low != null ? low : high;
+        Integer to = high != null ? high : low;
+        if (from == null) {
+            return false;
+        }
+        return (salaryMin == null || to >= salaryMin) && (salaryMax == null || from <= salaryMax);
+    }
+
+    static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
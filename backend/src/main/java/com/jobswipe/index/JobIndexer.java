@@ -0,0 +1,66 @@
+package com.jobswipe.index;
+
+import com.jobswipe.domain.entity.JobPost;
+import com.jobswipe.domain.entity.JobStatus;
+import com.jobswipe.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Single entry point that keeps the in-memory job indexes in step with job writes.
+ * Updates are applied after the surrounding transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobIndexer {
+
+    private final JobRankingIndex jobRankingIndex;
+    private final ApplicantRankingIndex applicantRankingIndex;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobFacetIndex jobFacetIndex;
+
+    public void jobSaved(JobPost job) {
+        Long jobId = job.getId();
+        applicantRankingIndex.invalidate(jobId);
+        if (job.getStatus() != JobStatus.OPEN) {
+            jobRemoved(jobId);
+            return;
+        }
+        List<String> skills = new ArrayList<>(job.getSkills());
+        JobSearchIndex.SearchDoc searchDoc = jobSearchIndex.document(job.getTitle(), job.getDescription(),
+                job.getRequirements(), skills);
+        JobFacetIndex.FacetDoc facetDoc = new JobFacetIndex.FacetDoc(job.getCompany().getId(), job.getType(),
+                job.getLocation(), job.getCompany().getIndustry(), job.getSalaryMin(), job.getSalaryMax());
+        TransactionCallbacks.afterCommit(() -> {
+            jobRankingIndex.index(jobId, skills);
+            jobSearchIndex.index(jobId, searchDoc);
+            jobFacetIndex.index(jobId, facetDoc);
+        });
+    }
+
+    public void jobRemoved(Long jobId) {
+        applicantRankingIndex.invalidate(jobId);
+        TransactionCallbacks.afterCommit(() -> {
+            jobRankingIndex.remove(jobId);
+            jobSearchIndex.remove(jobId);
+            jobFacetIndex.remove(jobId);
+        });
+    }
+
+    public void jobsRemoved(Collection<Long> jobIds) {
+        List<Long> ids = new ArrayList<>(jobIds);
+        ids.forEach(applicantRankingIndex::invalidate);
+        TransactionCallbacks.afterCommit(() -> ids.forEach(jobId -> {
+            jobRankingIndex.remove(jobId);
+            jobSearchIndex.remove(jobId);
+            jobFacetIndex.remove(jobId);
+        }));
+    }
+
+    public void companyIndustryChanged(Long companyId, String industry) {
+        TransactionCallbacks.afterCommit(() -> jobFacetIndex.companyIndustryChanged(companyId, industry));
+    }
+}
@@ -0,0 +1,168 @@
+package com.jobswipe.index;
+
+import com.jobswipe.domain.entity.JobStatus;
+import com.jobswipe.domain.repository.JobPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index from dictionary skill id to open job ids, used to rank the seeker
+ * feed by skill overlap without touching the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobRankingIndex {
+
+    private final JobPostRepository jobPostRepository;
+    private final SkillDictionary skillDictionary;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Map<SkillId, JobIds>
+    private final Map<Integer, RoaringBitmap> jobsBySkill = new HashMap<>();
+    private final Map<Integer, SkillSet> skillsByJob = new HashMap<>();
+    private final RoaringBitmap openJobs = new RoaringBitmap();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try (Stream<Object[]> rows = jobPostRepository.streamJobSkills(JobStatus.OPEN)) {
+            jobsBySkill.clear();
+            skillsByJob.clear();
+            openJobs.clear();
+            Map<Integer, List<String>> skills = new HashMap<>();
+            rows.forEach(row -> {
+                List<String> jobSkills = skills.computeIfAbsent(Math.toIntExact((Long) row[0]),
+                        id -> new ArrayList<>());
+                if (row[1] != null) {
+                    jobSkills.add((String) row[1]);
+                }
+            });
+            skills.forEach((jobId, names) -> indexLocked(jobId, skillDictionary.encode(names)));
+            jobsBySkill.values().forEach(RoaringBitmap::runOptimize);
+            log.info("Job ranking index built: {} open jobs, {} skills", openJobs.getCardinality(),
+                    jobsBySkill.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Long jobId, Collection<String> skills) {
+        SkillSet encoded = skillDictionary.encode(skills);
+        int id = Math.toIntExact(jobId);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            indexLocked(id, encoded);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(Math.toIntExact(jobId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} open job ids ordered by how many of the seeker's
+     * skills they share, topped up with the newest remaining jobs.
+     */
+    public List<Long> topJobs(SkillSet seekerSkills, RoaringBitmap excluded, int limit) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> postings = new ArrayList<>(seekerSkills.size());
+            for (int skillId : seekerSkills.ids()) {
+                RoaringBitmap jobs = jobsBySkill.get(skillId);
+                if (jobs != null) {
+                    postings.add(jobs);
+                }
+            }
+
+            RoaringBitmap candidates = RoaringBitmap.or(postings.iterator());
+            candidates.andNot(excluded);
+
+            // Min-heap on score keeps only the best `limit` candidates
+            PriorityQueue<ScoredJob> heap = new PriorityQueue<>(limit + 1);
+            IntIterator it = candidates.getIntIterator();
+            while (it.hasNext()) {
+                int jobId = it.next();
+                SkillSet jobSkills = skillsByJob.getOrDefault(jobId, SkillSet.EMPTY);
+                int overlap = jobSkills.overlap(seekerSkills);
+                int jobSkillCount = Math.max(1, jobSkills.size());
+                heap.offer(new ScoredJob(jobId, overlap + (double) overlap / jobSkillCount));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+
+            List<Long> ranked = new ArrayList<>(limit);
+            while (!heap.isEmpty()) {
+                ranked.add((long) heap.poll().jobId());
+            }
+            Collections.reverse(ranked);
+
+            // Not enough skill matches: fill with the newest jobs the seeker has not seen
+            if (ranked.size() < limit) {
+                IntIterator newest = openJobs.getReverseIntIterator();
+                while (newest.hasNext() && ranked.size() < limit) {
+                    int jobId = newest.next();
+                    if (!candidates.contains(jobId) && !excluded.contains(jobId)) {
+                        ranked.add((long) jobId);
+                    }
+                }
+            }
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void indexLocked(int jobId, SkillSet skills) {
+        for (int skillId : skills.ids()) {
+            jobsBySkill.computeIfAbsent(skillId, k -> new RoaringBitmap()).add(jobId);
+        }
+        skillsByJob.put(jobId, skills);
+        openJobs.add(jobId);
+    }
+
+    private void removeLocked(int jobId) {
+        SkillSet skills = skillsByJob.remove(jobId);
+        if (skills != null) {
+            for (int skillId : skills.ids()) {
+                RoaringBitmap jobs = jobsBySkill.get(skillId);
+                if (jobs != null) {
+                    jobs.remove(jobId);
+                    if (jobs.isEmpty()) {
+                        jobsBySkill.remove(skillId);
+                    }
+                }
+            }
+        }
+        openJobs.remove(jobId);
+    }
+
+    private record ScoredJob(int jobId, double score) implements Comparable<ScoredJob> {
+        @Override
+        public int compareTo(ScoredJob other) {
+            int byScore = Double.compare(score, other.score);
+            // Equal scores: the newer (higher id) job ranks higher
+            return byScore != 0 ? byScore : Integer.compare(jobId, other.jobId);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.jobswipe.index;
+
+import com.jobswipe.domain.entity.JobStatus;
+import com.jobswipe.domain.repository.JobPostRepository;
+import com.jobswipe.dto.job.JobCardRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * BM25 full-text index over open jobs. Title, skills, requirements and description are
+ * folded into one weighted bag of terms per job; listed skills named in the query earn
+ * an extra boost through the skill dictionary. Structured filters are resolved by
+ * {@link JobFacetIndex}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float SKILL_WEIGHT = 2f;
+    private static final float TEXT_WEIGHT = 1f;
+    private static final double SKILL_MATCH_BOOST = 1.5;
+
+    private final JobPostRepository jobPostRepository;
+    private final SkillDictionary skillDictionary;
+    private final JobFacetIndex jobFacetIndex;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Map<Term, JobIds>
+    private final Map<String, RoaringBitmap> jobsByTerm = new HashMap<>();
+    private final Map<Integer, SearchDoc> docs = new HashMap<>();
+    private final RoaringBitmap allJobs = new RoaringBitmap();
+    private double totalLength;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<Long, List<String>> skills = new HashMap<>();
+        try (Stream<Object[]> rows = jobPostRepository.streamJobSkills(JobStatus.OPEN)) {
+            rows.filter(row -> row[1] != null)
+                    .forEach(row -> skills.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]));
+        }
+
+        lock.writeLock().lock();
+        try (Stream<JobCardRow> cards = jobPostRepository.streamCardsByStatus(JobStatus.OPEN)) {
+            jobsByTerm.clear();
+            docs.clear();
+            allJobs.clear();
+            totalLength = 0;
+            cards.forEach(card -> indexLocked(Math.toIntExact(card.getId()), document(card.getTitle(),
+                    card.getDescription(), card.getRequirements(), skills.getOrDefault(card.getId(), List.of()))));
+            jobsByTerm.values().forEach(RoaringBitmap::runOptimize);
+            log.info("Job search index built: {} jobs, {} terms", docs.size(), jobsByTerm.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Analyzes the job's text up front so callers can apply the result after commit
+    public SearchDoc document(String title, String description, String requirements, Collection<String> skills) {
+        Map<String, Float> weights = new HashMap<>();
+        addTerms(weights, title, TITLE_WEIGHT);
+        addTerms(weights, description, TEXT_WEIGHT);
+        addTerms(weights, requirements, TEXT_WEIGHT);
+        List<String> skillNames = skills == null ? List.of() : new ArrayList<>(skills);
+        for (String skill : skillNames) {
+            addTerms(weights, skill, SKILL_WEIGHT);
+        }
+        float length = 0;
+        for (float w : weights.values()) {
+            length += w;
+        }
+        return new SearchDoc(weights, length, skillDictionary.encode(skillNames));
+    }
+
+    public void index(Long jobId, SearchDoc doc) {
+        int id = Math.toIntExact(jobId);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            indexLocked(id, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(Math.toIntExact(jobId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a page of matching job ids, best BM25 score first. A blank query matches
+     * every job that passes the filter, newest first.
+     */
+    public Page<Long> search(String query, JobFilter filter, Pageable pageable) {
+        // Resolved before taking this index's lock; the two indexes never lock each other
+        RoaringBitmap allowed = filter.isEmpty() ? null : jobFacetIndex.matching(filter);
+        List<String> terms = TextAnalyzer.terms(query).stream().distinct().toList();
+        SkillSet querySkills = skillDictionary.mentionedIn(query);
+        int wanted = Math.toIntExact(Math.min(Integer.MAX_VALUE - 1, pageable.getOffset() + pageable.getPageSize()));
+
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty()) {
+                return newest(allowed, pageable, wanted);
+            }
+
+            List<RoaringBitmap> postings = new ArrayList<>(terms.size());
+            double[] idf = new double[terms.size()];
+            int n = docs.size();
+            for (int i = 0; i < terms.size(); i++) {
+                RoaringBitmap jobs = jobsByTerm.getOrDefault(terms.get(i), new RoaringBitmap());
+                int df = jobs.getCardinality();
+                idf[i] = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+                postings.add(jobs);
+            }
+            double avgLength = n == 0 ? 1 : totalLength / n;
+
+            RoaringBitmap candidates = RoaringBitmap.or(postings.iterator());
+            if (allowed != null) {
+                candidates.and(allowed);
+            }
+            // Min-heap on score keeps only the hits up to the end of the requested page
+            PriorityQueue<ScoredJob> heap = new PriorityQueue<>(Math.min(wanted, candidates.getCardinality()) + 1);
+            int total = 0;
+            IntIterator it = candidates.getIntIterator();
+            while (it.hasNext()) {
+                int jobId = it.next();
+                SearchDoc doc = docs.get(jobId);
+                if (doc == null) {
+                    continue;
+                }
+                total++;
+                double norm = K1 * (1 - B + B * doc.length() / avgLength);
+                double score = SKILL_MATCH_BOOST * doc.skills().overlap(querySkills);
+                for (int i = 0; i < terms.size(); i++) {
+                    Float tf = doc.weights().get(terms.get(i));
+                    if (tf != null) {
+                        score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                    }
+                }
+                heap.offer(new ScoredJob(jobId, score));
+                if (heap.size() > wanted) {
+                    heap.poll();
+                }
+            }
+            return toPage(heap, total, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Page<Long> newest(RoaringBitmap allowed, Pageable pageable, int wanted) {
+        List<Long> ids = new ArrayList<>(pageable.getPageSize());
+        int total = 0;
+        IntIterator it = allJobs.getReverseIntIterator();
+        while (it.hasNext()) {
+            int jobId = it.next();
+            if (allowed == null || allowed.contains(jobId)) {
+                if (total >= pageable.getOffset() && total < wanted) {
+                    ids.add((long) jobId);
+                }
+                total++;
+            }
+        }
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    private Page<Long> toPage(PriorityQueue<ScoredJob> heap, int total, Pageable pageable) {
+        List<Long> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add((long) heap.poll().jobId());
+        }
+        Collections.reverse(ranked);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        return new PageImpl<>(new ArrayList<>(ranked.subList(from, ranked.size())), pageable, total);
+    }
+
+    private void indexLocked(int jobId, SearchDoc doc) {
+        for (String term : doc.weights().keySet()) {
+            jobsByTerm.computeIfAbsent(term, k -> new RoaringBitmap()).add(jobId);
+        }
+        docs.put(jobId, doc);
+        allJobs.add(jobId);
+        totalLength += doc.length();
+    }
+
+    private void removeLocked(int jobId) {
+        SearchDoc doc = docs.remove(jobId);
+        if (doc == null) {
+            return;
+        }
+        for (String term : doc.weights().keySet()) {
+            RoaringBitmap jobs = jobsByTerm.get(term);
+            if (jobs != null) {
+                jobs.remove(jobId);
+                if (jobs.isEmpty()) {
+                    jobsByTerm.remove(term);
+                }
+            }
+        }
+        allJobs.remove(jobId);
+        totalLength -= doc.length();
+    }
+
+    private static void addTerms(Map<String, Float> weights, String text, float weight) {
+        for (String term : TextAnalyzer.terms(text)) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+
+    public record SearchDoc(Map<String, Float> weights, float length, SkillSet skills) {
+    }
+
+    private record ScoredJob(int jobId, double score) implements Comparable<ScoredJob> {
+        @Override
+        public int compareTo(ScoredJob other) {
+            int byScore = Double.compare(score, other.score);
+            // Equal scores: the newer (higher id) job ranks higher
+            return byScore != 0 ? byScore : Integer.compare(jobId, other.jobId);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.jobswipe.index;
+
+import com.jobswipe.domain.repository.ApplicationRepository;
+import com.jobswipe.domain.repository.JobSkipRepository;
+import com.jobswipe.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory set of job ids each seeker has already applied to or skipped,
+ * kept as one compressed bitmap per seeker and rebuilt from storage on startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeekerExclusionIndex {
+
+    private final ApplicationRepository applicationRepository;
+    private final JobSkipRepository jobSkipRepository;
+
+    // Map<SeekerProfileId, JobIds>
+    private final Map<Long, RoaringBitmap> excludedJobs = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        excludedJobs.clear();
+        try (Stream<Object[]> applied = applicationRepository.streamSeekerJobPairs();
+                Stream<Object[]> skipped = jobSkipRepository.streamSeekerJobPairs()) {
+            applied.forEach(row -> exclude((Long) row[0], (Long) row[1]));
+            skipped.forEach(row -> exclude((Long) row[0], (Long) row[1]));
+        }
+        excludedJobs.values().forEach(RoaringBitmap::runOptimize);
+        log.info("Seeker exclusion index built for {} seekers", excludedJobs.size());
+    }
+
+    public boolean isExcluded(Long seekerId, Long jobId) {
+        RoaringBitmap jobs = excludedJobs.get(seekerId);
+        if (jobs == null) {
+            return false;
+        }
+        synchronized (jobs) {
+            return jobs.contains(Math.toIntExact(jobId));
+        }
+    }
+
+    public void exclude(Long seekerId, Long jobId) {
+        RoaringBitmap jobs = excludedJobs.computeIfAbsent(seekerId, id -> new RoaringBitmap());
+        synchronized (jobs) {
+            jobs.add(Math.toIntExact(jobId));
+        }
+    }
+
+    // Rolled back swipes must not be remembered
+    public void excludeAfterCommit(Long seekerId, Long jobId) {
+        TransactionCallbacks.afterCommit(() -> exclude(seekerId, jobId));
+    }
+
+    // Returns a private copy that callers may iterate without holding the lock
+    public RoaringBitmap snapshot(Long seekerId) {
+        RoaringBitmap jobs = excludedJobs.get(seekerId);
+        if (jobs == null) {
+            return new RoaringBitmap();
+        }
+        synchronized (jobs) {
+            return jobs.clone();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.jobswipe.index;
+
+import org.springframework.stereotype.Component;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Maps normalized skill names to compact integer ids. The database keeps the free-text
+ * skill collections; ids are assigned per process as the in-memory indexes load them.
+ */
+@Component
+public class SkillDictionary {
+
+    public static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final List<String> namesById = new CopyOnWriteArrayList<>();
+
+    public static String normalize(String skill) {
+        if (skill == null) {
+            return null;
+        }
+        String s = skill.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return s.isEmpty() ? null : s;
+    }
+
+    // Returns the id for the skill, assigning a new one on first sight
+    public int idOf(String skill) {
+        String name = normalize(skill);
+        if (name == null) {
+            return UNKNOWN;
+        }
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (namesById) {
+            return idsByName.computeIfAbsent(name, n -> {
+                namesById.add(n);
+                return namesById.size() - 1;
+            });
+        }
+    }
+
+    // Returns the id if the skill is already known; never grows the dictionary
+    public int lookup(String skill) {
+        String name = normalize(skill);
+        return name == null ? UNKNOWN : idsByName.getOrDefault(name, UNKNOWN);
+    }
+
+    public String nameOf(int id) {
+        return id >= 0 && id < namesById.size() ? namesById.get(id) : null;
+    }
+
+    public int size() {
+        return namesById.size();
+    }
+
+    public SkillSet encode(Collection<String> skills) {
+        return skills == null ? SkillSet.EMPTY : SkillSet.of(skills.stream().mapToInt(this::idOf).toArray());
+    }
+
+    // For query-side sets such as a seeker's skills: unknown names cannot match anything anyway
+    public SkillSet encodeKnown(Collection<String> skills) {
+        return skills == null ? SkillSet.EMPTY : SkillSet.of(skills.stream().mapToInt(this::lookup).toArray());
+    }
+
+    // Skills named in free text (single words and two-word phrases), e.g. a job's requirements
+    public SkillSet mentionedIn(String text) {
+        List<String> words = TextAnalyzer.words(text);
+        if (words.isEmpty()) {
+            return SkillSet.EMPTY;
+        }
+        int[] ids = new int[words.size() * 2];
+        for (int i = 0; i < words.size(); i++) {
+            ids[2 * i] = lookup(words.get(i));
+            ids[2 * i + 1] = i + 1 < words.size() ? lookup(words.get(i) + " " + words.get(i + 1)) : UNKNOWN;
+        }
+        return SkillSet.of(ids);
+    }
+}
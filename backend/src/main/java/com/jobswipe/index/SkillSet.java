@@ -0,0 +1,97 @@
+package com.jobswipe.index;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of dictionary skill ids stored as a sorted int array, so overlap and
+ * intersection are linear merges over primitives.
+ */
+public final class SkillSet {
+
+    public static final SkillSet EMPTY = new SkillSet(new int[0]);
+
+    private final int[] ids;
+
+    private SkillSet(int[] sortedDistinctIds) {
+        this.ids = sortedDistinctIds;
+    }
+
+    public static SkillSet of(int... ids) {
+        int[] sorted = Arrays.stream(ids).filter(id -> id >= 0).sorted().distinct().toArray();
+        return sorted.length == 0 ? EMPTY : new SkillSet(sorted);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public boolean contains(int skillId) {
+        return Arrays.binarySearch(ids, skillId) >= 0;
+    }
+
+    public int overlap(SkillSet other) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ids.length && j < other.ids.length) {
+            if (ids[i] == other.ids[j]) {
+                count++;
+                i++;
+                j++;
+            } else if (ids[i] < other.ids[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    public SkillSet intersect(SkillSet other) {
+        int[] out = new int[Math.min(ids.length, other.ids.length)];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ids.length && j < other.ids.length) {
+            if (ids[i] == other.ids[j]) {
+                out[n++] = ids[i];
+                i++;
+                j++;
+            } else if (ids[i] < other.ids[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return n == 0 ? EMPTY : new SkillSet(Arrays.copyOf(out, n));
+    }
+
+    public SkillSet minus(SkillSet other) {
+        int[] out = new int[ids.length];
+        int n = 0;
+        for (int id : ids) {
+            if (!other.contains(id)) {
+                out[n++] = id;
+            }
+        }
+        return n == 0 ? EMPTY : new SkillSet(Arrays.copyOf(out, n));
+    }
+
+    public int[] ids() {
+        return ids.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SkillSet other && Arrays.equals(ids, other.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+}
@@ -0,0 +1,91 @@
+package com.jobswipe.index;
+
+import java.util.*;
+
+/**
+ * Splits free text into index terms: lower-cased words with stop words dropped and a
+ * light English suffix stemmer applied. Technical tokens such as "c++", "c#" and
+ * "node.js" are kept whole.
+ */
+public final class TextAnalyzer {
+
+    private static final String WORD_SEPARATORS = "[^\\p{L}\\p{N}+#.]+";
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is",
+            "it", "its", "of", "on", "or", "our", "that", "the", "their", "this", "to", "we", "will",
+            "with", "you", "your");
+
+    private TextAnalyzer() {
+    }
+
+    // Lower-cased words in order, without stemming; used for phrase lookups
+    public static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String raw : text.toLowerCase(Locale.ROOT).split(WORD_SEPARATORS)) {
+            String word = trimPunctuation(raw);
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            if (!STOP_WORDS.contains(word)) {
+                terms.add(stem(word));
+            }
+        }
+        return terms;
+    }
+
+    static String stem(String word) {
+        int n = word.length();
+        if (n <= 3 || !word.chars().allMatch(Character::isLetter)) {
+            return word;
+        }
+        if (word.endsWith("ies") && n > 4) {
+            return word.substring(0, n - 3) + "y";
+        }
+        if (word.endsWith("sses") || word.endsWith("xes") || word.endsWith("ches") || word.endsWith("shes")) {
+            return word.substring(0, n - 2);
+        }
+        if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is")) {
+            return word.substring(0, n - 1);
+        }
+        if (word.endsWith("ing") && n > 5) {
+            return undouble(word.substring(0, n - 3));
+        }
+        if (word.endsWith("ed") && n > 4) {
+            return undouble(word.substring(0, n - 2));
+        }
+        return word;
+    }
+
+    // "running" -> "runn" -> "run", but "skill" keeps its double l
+    private static String undouble(String stem) {
+        int n = stem.length();
+        if (n > 2 && stem.charAt(n - 1) == stem.charAt(n - 2) && "bdgmnprt".indexOf(stem.charAt(n - 1)) >= 0) {
+            return stem.substring(0, n - 1);
+        }
+        return stem;
+    }
+
+    // Keeps "c++", "c#" and "node.js" intact while dropping a sentence-ending period
+    private static String trimPunctuation(String word) {
+        int end = word.length();
+        while (end > 0 && word.charAt(end - 1) == '.') {
+            end--;
+        }
+        int start = 0;
+        while (start < end && word.charAt(start) == '.') {
+            start++;
+        }
+        return word.substring(start, end);
+    }
+}
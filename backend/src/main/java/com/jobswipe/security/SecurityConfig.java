@@ -40,13 +40,13 @@ public class SecurityConfig {
                         .requestMatchers("/ws/**").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/api/profile/seeker/**").hasRole("SEEKER")
-                        .requestMatchers("/api/swipes/job").hasRole("SEEKER")
+                        .requestMatchers("/api/swipes/job", "/api/swipes/job/batch").hasRole("SEEKER")
                         .requestMatchers("/api/applications/seeker").hasRole("SEEKER")
                         .requestMatchers("/api/applications/views").hasRole("SEEKER")
                         .requestMatchers("/api/matches/seeker").hasRole("SEEKER")
                         .requestMatchers("/api/profile/company/**").hasRole("COMPANY")
                         .requestMatchers("/api/jobs/company/**").hasRole("COMPANY")
-                        .requestMatchers("/api/swipes/applicant").hasRole("COMPANY")
+                        .requestMatchers("/api/swipes/applicant", "/api/swipes/applicant/batch").hasRole("COMPANY")
                         .requestMatchers("/api/matches/company").hasRole("COMPANY")
                         .requestMatchers("/api/chats/**").authenticated()
                         .anyRequest().authenticated())
@@ -1,10 +1,13 @@
 package com.jobswipe.service;
 
 import com.jobswipe.dto.chat.ChatRoomDto;
+import com.jobswipe.dto.chat.ChatSearchResultDto;
 import com.jobswipe.dto.chat.MessageDto;
+import com.jobswipe.dto.chat.MessageHistoryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface ChatService {
 
@@ -16,6 +19,9 @@ public interface ChatService {
 
     MessageDto sendMessage(Long userId, Long matchId, String content);
 
+    // Same checks as sendMessage, but returns once the message is queued; the future completes on commit
+    CompletableFuture<MessageDto> sendMessageAsync(Long userId, Long matchId, String content);
+
     void markMessagesAsRead(Long userId, Long matchId);
 
     // Chat room ID based methods
@@ -23,9 +29,21 @@ public interface ChatService {
 
     Page<MessageDto> getMessagesByChatRoomId(Long userId, Long chatRoomId, Pageable pageable);
 
+    // Keyset history: messages before a sequence number (scrolling back, the latest when both
+    // cursors are null) or after one (catching up after a reconnect), oldest first
+    MessageHistoryDto getMessageHistory(Long userId, Long chatRoomId, Long beforeSeq, Long afterSeq, int limit);
+
     MessageDto sendMessageToChatRoom(Long userId, Long chatRoomId, String content);
 
-    void markChatRoomMessagesAsRead(Long userId, Long chatRoomId);
+    // Advances the caller's read watermark to upToSeq, or to the newest message when null
+    void markChatRoomMessagesAsRead(Long userId, Long chatRoomId, Long upToSeq);
+
+    // Messages in the user's rooms containing every word of the query, newest first; each call
+    // indexes a bounded slice of unindexed history, and the result says whether any remains
+    ChatSearchResultDto searchMessages(Long userId, String query, int limit);
+
+    // Moves old messages of up to maxRooms rooms into the cold archive; returns the rooms archived
+    int archiveColdMessages(int maxRooms);
 
     // Direct messaging
     ChatRoomDto getOrCreateDirectChat(Long userId, Long otherUserId);
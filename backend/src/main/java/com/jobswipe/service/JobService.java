@@ -1,14 +1,25 @@
 package com.jobswipe.service;
 
+import com.jobswipe.dto.common.CursorPageDto;
+import com.jobswipe.dto.job.JobFacetsDto;
 import com.jobswipe.dto.job.JobPostDto;
 import com.jobswipe.dto.job.CreateJobRequest;
+import com.jobswipe.index.JobFilter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
 
 public interface JobService {
 
-    Page<JobPostDto> getAvailableJobsForSeeker(Long userId, Pageable pageable);
+    Page<JobPostDto> getAvailableJobsForSeeker(Long userId, JobFilter filter, Pageable pageable);
+
+    CursorPageDto<JobPostDto> getSwipeDeck(Long userId, JobFilter filter, String cursor, int size);
+
+    List<JobPostDto> getRankedJobsForSeeker(Long userId, int size);
+
+    Page<JobPostDto> searchJobs(String query, JobFilter filter, Pageable pageable);
+
+    JobFacetsDto getJobFacets(JobFilter filter);
 
     JobPostDto getJobById(Long jobId);
 
@@ -18,7 +29,10 @@ public interface JobService {
 
     void deleteJob(Long userId, Long jobId);
 
-    List<JobPostDto> getCompanyJobs(Long userId);
+    List<JobPostDto> getCompanyJobs(Long userId, JobFilter filter);
 
     JobPostDto closeJob(Long userId, Long jobId);
+
+    // Closes up to batchSize expired jobs and rejects their undecided applications; returns the number closed
+    int closeExpiredJobs(int batchSize);
 }
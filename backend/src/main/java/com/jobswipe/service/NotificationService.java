@@ -2,6 +2,7 @@ package com.jobswipe.service;
 
 import com.jobswipe.domain.entity.NotificationType;
 import com.jobswipe.dto.notification.NotificationDto;
+import com.jobswipe.dto.notification.NotificationRequest;
 import java.util.List;
 
 public interface NotificationService {
@@ -14,5 +15,10 @@ public interface NotificationService {
 
     void markAllAsRead(Long userId);
 
-    void createNotification(Long userId, NotificationType type, String title, String message, Long relatedId);
+    // Writes an outbox row in the caller's transaction; delivery happens after commit
+    void enqueueNotification(Long userId, NotificationType type, String title, String message, Long relatedId);
+
+    void enqueueNotifications(List<NotificationRequest> requests);
+
+    int dispatchOutbox(int batchSize);
 }
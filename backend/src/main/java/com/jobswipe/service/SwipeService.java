@@ -6,6 +6,7 @@ import com.jobswipe.dto.application.ApplicationDto;
 import com.jobswipe.dto.profile.SeekerProfileDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.util.List;
 
 public interface SwipeService {
 
@@ -13,6 +14,10 @@ public interface SwipeService {
 
     SwipeResponse swipeApplicant(Long userId, SwipeRequest request);
 
+    List<SwipeResponse> swipeJobs(Long userId, List<SwipeRequest> requests);
+
+    List<SwipeResponse> swipeApplicants(Long userId, List<SwipeRequest> requests);
+
     Page<ApplicationDto> getSeekerApplications(Long userId, Pageable pageable);
 
     Page<SeekerProfileDto> getJobApplicants(Long userId, Long jobId, Pageable pageable);
@@ -1,52 +1,86 @@
 package com.jobswipe.service.impl;
 
+import com.jobswipe.archive.ArchivedMessage;
+import com.jobswipe.archive.ChatArchive;
 import com.jobswipe.domain.entity.*;
 import com.jobswipe.domain.repository.*;
 import com.jobswipe.dto.chat.*;
 import com.jobswipe.exception.ApiException;
+import com.jobswipe.index.ChatSearchIndex;
+import com.jobswipe.index.TextAnalyzer;
 import com.jobswipe.service.ChatService;
-import com.jobswipe.service.NotificationService;
+import com.jobswipe.service.support.ChatMembershipCache;
+import com.jobswipe.service.support.MessageIngestPipeline;
+import com.jobswipe.util.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
 
+        private static final int MAX_CONTENT_LENGTH = 2000;
+        private static final String READ_RECEIPTS_QUEUE = "/queue/receipts";
+        private static final int MAX_HISTORY_LIMIT = 100;
+        private static final int MAX_SEARCH_LIMIT = 50;
+        private static final int SEARCH_INDEX_BATCH = 1000;
+
         private final ChatRoomRepository chatRoomRepository;
         private final MessageRepository messageRepository;
         private final MatchRepository matchRepository;
         private final UserRepository userRepository;
-        private final NotificationService notificationService;
+        private final MessageIngestPipeline messageIngestPipeline;
+        private final ChatMembershipCache chatMembershipCache;
+        private final TransactionTemplate transactionTemplate;
+        private final SimpMessagingTemplate messagingTemplate;
+        private final ChatArchive chatArchive;
+        private final ChatSearchIndex chatSearchIndex;
+
+        @Value("${app.chat.archive.after-days:180}")
+        private int archiveAfterDays;
+
+        @Value("${app.chat.archive.max-segment-messages:10000}")
+        private int maxSegmentMessages;
+
+        @Value("${app.chat.search.index-budget:5000}")
+        private long searchIndexBudget;
 
         @Override
         public List<ChatRoomDto> getUserChatRooms(Long userId) {
-                User user = getUser(userId);
-                List<ChatRoom> chatRooms = chatRoomRepository.findByUserId(userId);
-
-                return chatRooms.stream().map(room -> {
+                // Last message and unread counts are stored on the room, so this is a single query
+                return chatRoomRepository.findInboxByUserId(userId).stream().map(room -> {
                         User otherUser = room.getOtherUser(userId);
-                        List<Message> messages = messageRepository.findByChatRoomOrderByCreatedAtAsc(room);
-                        Message lastMsg = messages.isEmpty() ? null : messages.get(messages.size() - 1);
-                        long unread = messageRepository.countUnreadMessages(room, user);
 
                         return ChatRoomDto.builder()
                                         .id(room.getId())
                                         .otherUserName(otherUser.getName())
                                         .otherUserId(otherUser.getId())
-                                        .lastMessage(lastMsg != null ? lastMsg.getContent() : null)
+                                        .lastMessage(room.getLastMessagePreview())
                                         .lastMessageTime(
-                                                        lastMsg != null ? lastMsg.getCreatedAt()
+                                                        room.getLastMessageAt() != null ? room.getLastMessageAt()
                                                                         .format(DateTimeFormatter.ofPattern("HH:mm"))
                                                                         : null)
-                                        .unreadCount(unread)
+                                        .unreadCount(room.getUnreadFor(userId))
                                         .build();
                 }).collect(Collectors.toList());
         }
@@ -89,25 +123,34 @@ public class ChatServiceImpl implements ChatService {
                 ChatRoom chatRoom = chatRoomRepository.findByUsers(seekerUser.getId(), companyUser.getId())
                                 .orElseThrow(() -> new ApiException("Chat not found", HttpStatus.NOT_FOUND));
 
-                return messageRepository.findByChatRoomOrderByCreatedAtDesc(chatRoom, pageable)
-                                .map(m -> toMessageDto(m, user));
+                return newestFirst(chatRoom, user, pageable);
         }
 
         @Override
-        @Transactional
         public MessageDto sendMessage(Long userId, Long matchId, String content) {
-                User user = getUser(userId);
-                Match match = matchRepository.findById(matchId)
-                                .orElseThrow(() -> new ApiException("Match not found", HttpStatus.NOT_FOUND));
-
-                validateMatchAccess(match, user);
-
-                User seekerUser = match.getApplication().getSeeker().getUser();
-                User companyUser = match.getApplication().getJob().getCompany().getUser();
+                return messageIngestPipeline.submit(matchMessage(userId, matchId, content));
+        }
 
-                ChatRoom chatRoom = getOrCreateChatBetweenUsers(seekerUser, companyUser);
+        @Override
+        public CompletableFuture<MessageDto> sendMessageAsync(Long userId, Long matchId, String content) {
+                return messageIngestPipeline.submitAsync(matchMessage(userId, matchId, content));
+        }
 
-                return sendMessageToRoom(chatRoom, user, content);
+        private MessageIngestPipeline.PendingMessage matchMessage(Long userId, Long matchId, String content) {
+                validateContent(content);
+                // Authorized from the membership cache; only a first message creates the room
+                ChatMembershipCache.Participants participants = chatMembershipCache.matchParticipants(matchId);
+                if (!participants.includes(userId)) {
+                        throw new ApiException("Access denied", HttpStatus.FORBIDDEN);
+                }
+                ChatMembershipCache.Membership membership = chatMembershipCache.roomBetween(participants);
+                if (membership == null) {
+                        // The room must commit before the message is queued
+                        membership = transactionTemplate.execute(status -> chatMembershipCache.roomCreated(
+                                        getOrCreateChatBetweenUsers(getUser(participants.lowId()),
+                                                        getUser(participants.highId()))));
+                }
+                return pendingMessage(membership, userId, content);
         }
 
         @Override
@@ -123,8 +166,7 @@ public class ChatServiceImpl implements ChatService {
                 User companyUser = match.getApplication().getJob().getCompany().getUser();
 
                 chatRoomRepository.findByUsers(seekerUser.getId(), companyUser.getId())
-                                .ifPresent(chatRoom -> messageRepository.markMessagesAsRead(chatRoom, user,
-                                                MessageStatus.READ));
+                                .ifPresent(chatRoom -> markRead(chatRoom, user, Long.MAX_VALUE));
         }
 
         @Override
@@ -144,24 +186,62 @@ public class ChatServiceImpl implements ChatService {
                 User user = getUser(userId);
                 ChatRoom chatRoom = getChatRoomWithAccess(chatRoomId, user);
 
-                return messageRepository.findByChatRoomOrderByCreatedAtDesc(chatRoom, pageable)
-                                .map(m -> toMessageDto(m, user));
+                return newestFirst(chatRoom, user, pageable);
         }
 
         @Override
-        @Transactional
-        public MessageDto sendMessageToChatRoom(Long userId, Long chatRoomId, String content) {
+        @Transactional(readOnly = true)
+        public MessageHistoryDto getMessageHistory(Long userId, Long chatRoomId, Long beforeSeq, Long afterSeq,
+                        int limit) {
+                if (beforeSeq != null && afterSeq != null) {
+                        throw new ApiException("Use either before or after, not both", HttpStatus.BAD_REQUEST);
+                }
+                if (limit < 1 || limit > MAX_HISTORY_LIMIT) {
+                        throw new ApiException("Limit must be between 1 and " + MAX_HISTORY_LIMIT,
+                                        HttpStatus.BAD_REQUEST);
+                }
                 User user = getUser(userId);
                 ChatRoom chatRoom = getChatRoomWithAccess(chatRoomId, user);
-                return sendMessageToRoom(chatRoom, user, content);
+
+                // Seqs have no gaps, so both cursors translate straight into a seq range
+                long lastSeq = chatRoom.getLastSeq();
+                long fromSeq;
+                long toSeq;
+                boolean hasMore;
+                if (afterSeq != null) {
+                        fromSeq = Math.max(1, afterSeq + 1);
+                        toSeq = Math.min(lastSeq, fromSeq + limit - 1);
+                        hasMore = toSeq < lastSeq;
+                } else {
+                        toSeq = beforeSeq != null ? Math.min(beforeSeq - 1, lastSeq) : lastSeq;
+                        fromSeq = Math.max(1, toSeq - limit + 1);
+                        hasMore = fromSeq > 1;
+                }
+
+                return MessageHistoryDto.builder()
+                                .chatRoomId(chatRoomId)
+                                .messages(readRange(chatRoom, user, fromSeq, toSeq))
+                                .hasMore(hasMore)
+                                .lastSeq(chatRoom.getLastSeq())
+                                .build();
+        }
+
+        @Override
+        public MessageDto sendMessageToChatRoom(Long userId, Long chatRoomId, String content) {
+                validateContent(content);
+                ChatMembershipCache.Membership membership = chatMembershipCache.room(chatRoomId);
+                if (!membership.hasUser(userId)) {
+                        throw new ApiException("Access denied", HttpStatus.FORBIDDEN);
+                }
+                return messageIngestPipeline.submit(pendingMessage(membership, userId, content));
         }
 
         @Override
         @Transactional
-        public void markChatRoomMessagesAsRead(Long userId, Long chatRoomId) {
+        public void markChatRoomMessagesAsRead(Long userId, Long chatRoomId, Long upToSeq) {
                 User user = getUser(userId);
                 ChatRoom chatRoom = getChatRoomWithAccess(chatRoomId, user);
-                messageRepository.markMessagesAsRead(chatRoom, user, MessageStatus.READ);
+                markRead(chatRoom, user, upToSeq != null ? upToSeq : Long.MAX_VALUE);
         }
 
         // New method: Get or create direct chat between any two users
@@ -179,6 +259,161 @@ public class ChatServiceImpl implements ChatService {
                                 .build();
         }
 
+        @Override
+        @Transactional(readOnly = true)
+        public ChatSearchResultDto searchMessages(Long userId, String query, int limit) {
+                if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+                        throw new ApiException("Limit must be between 1 and " + MAX_SEARCH_LIMIT,
+                                        HttpStatus.BAD_REQUEST);
+                }
+                List<String> terms = TextAnalyzer.terms(query).stream().distinct().toList();
+                if (terms.isEmpty()) {
+                        return ChatSearchResultDto.builder().messages(List.of()).complete(true).build();
+                }
+                User user = getUser(userId);
+                List<ChatRoom> chatRooms = chatRoomRepository.findInboxByUserId(userId);
+                Map<Long, ChatRoom> rooms = new HashMap<>();
+                List<ChatSearchIndex.RoomIndex> indexes = new ArrayList<>(chatRooms.size());
+                for (ChatRoom chatRoom : chatRooms) {
+                        rooms.put(chatRoom.getId(), chatRoom);
+                        indexes.add(chatSearchIndex.room(chatRoom.getId(), chatRoom.getLastSeq()));
+                }
+
+                // A bounded amount of indexing per request: first messages the indexes have not
+                // caught up with, then older history, most recently active rooms first
+                long budget = searchIndexBudget;
+                for (int i = 0; i < chatRooms.size() && budget > 0; i++) {
+                        budget -= indexNewer(chatRooms.get(i), user, indexes.get(i), budget);
+                }
+                for (int i = 0; i < chatRooms.size() && budget > 0; i++) {
+                        budget -= indexOlder(chatRooms.get(i), user, indexes.get(i), budget);
+                }
+                boolean complete = true;
+                for (int i = 0; i < chatRooms.size(); i++) {
+                        ChatSearchIndex.RoomIndex index = indexes.get(i);
+                        complete &= index.low() == 0 && index.high() >= chatRooms.get(i).getLastSeq();
+                }
+
+                List<MessageDto> results = new ArrayList<>();
+                for (ChatSearchIndex.Hit hit : chatSearchIndex.search(indexes, terms, limit)) {
+                        results.addAll(readRange(rooms.get(hit.chatRoomId()), user, hit.seq(), hit.seq()));
+                }
+                return ChatSearchResultDto.builder().messages(results).complete(complete).build();
+        }
+
+        @Override
+        public int archiveColdMessages(int maxRooms) {
+                LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveAfterDays);
+                List<Object[]> candidates = messageRepository.findArchivableRooms(cutoff, PageRequest.of(0, maxRooms));
+                int archived = 0;
+                for (Object[] row : candidates) {
+                        try {
+                                archiveRoom((Long) row[0], (Long) row[1]);
+                                archived++;
+                        } catch (RuntimeException e) {
+                                log.error("Archiving chat room {} failed", row[0], e);
+                        }
+                }
+                return archived;
+        }
+
+        // Copies the next run of old messages into a segment, then moves the boundary and deletes
+        // them in one short transaction. A crash in between leaves an orphan segment that the
+        // next run replaces; readers never look past the committed boundary.
+        private void archiveRoom(Long chatRoomId, long upToSeq) {
+                long archivedUpTo = chatRoomRepository.findArchivedUpToSeq(chatRoomId);
+                long toSeq = Math.min(upToSeq, archivedUpTo + maxSegmentMessages);
+                if (toSeq <= archivedUpTo) {
+                        return;
+                }
+                List<ArchivedMessage> messages = messageRepository.findSeqRange(chatRoomId, archivedUpTo + 1, toSeq)
+                                .stream()
+                                .map(m -> new ArchivedMessage(m.getSeq(), m.getId(), m.getSender().getId(),
+                                                m.getCreatedAt(), m.getStatus(), m.getContent()))
+                                .collect(Collectors.toList());
+                if (messages.size() != toSeq - archivedUpTo) {
+                        throw new IllegalStateException("Chat room " + chatRoomId + " is missing messages in seq "
+                                        + (archivedUpTo + 1) + ".." + toSeq);
+                }
+
+                chatArchive.write(chatRoomId, messages);
+                transactionTemplate.executeWithoutResult(status -> {
+                        if (chatRoomRepository.advanceArchivedUpToSeq(chatRoomId, archivedUpTo, toSeq) == 1) {
+                                messageRepository.deleteUpToSeq(chatRoomId, toSeq);
+                        }
+                });
+                log.info("Archived messages {}..{} of chat room {}", archivedUpTo + 1, toSeq, chatRoomId);
+        }
+
+        // A page of the room's history, newest first, counted back from the latest seq
+        private Page<MessageDto> newestFirst(ChatRoom chatRoom, User user, Pageable pageable) {
+                long toSeq = chatRoom.getLastSeq() - pageable.getOffset();
+                long fromSeq = Math.max(1, toSeq - pageable.getPageSize() + 1);
+                List<MessageDto> messages = readRange(chatRoom, user, fromSeq, toSeq);
+                Collections.reverse(messages);
+                return new PageImpl<>(messages, pageable, chatRoom.getLastSeq());
+        }
+
+        // Messages fromSeq..toSeq, oldest first, from the cold archive and the messages table.
+        // A short read from the table means the archiver moved the boundary meanwhile; the
+        // range is then read again against the new boundary.
+        private List<MessageDto> readRange(ChatRoom chatRoom, User user, long fromSeq, long toSeq) {
+                List<MessageDto> messages = new ArrayList<>();
+                if (fromSeq > toSeq) {
+                        return messages;
+                }
+                long archivedUpTo = chatRoom.getArchivedUpToSeq();
+                for (int attempt = 0;; attempt++) {
+                        messages.clear();
+                        if (fromSeq <= archivedUpTo) {
+                                for (ArchivedMessage m : chatArchive.read(chatRoom.getId(), fromSeq,
+                                                Math.min(toSeq, archivedUpTo))) {
+                                        messages.add(toMessageDto(m, chatRoom, user));
+                                }
+                        }
+                        if (toSeq > archivedUpTo) {
+                                long hotFrom = Math.max(fromSeq, archivedUpTo + 1);
+                                List<Message> hot = messageRepository.findSeqRange(chatRoom.getId(), hotFrom, toSeq);
+                                if (hot.size() < toSeq - hotFrom + 1 && attempt == 0) {
+                                        long current = chatRoomRepository.findArchivedUpToSeq(chatRoom.getId());
+                                        if (current > archivedUpTo) {
+                                                archivedUpTo = current;
+                                                continue;
+                                        }
+                                }
+                                for (Message m : hot) {
+                                        messages.add(toMessageDto(m, chatRoom, user));
+                                }
+                        }
+                        return messages;
+                }
+        }
+
+        // Indexes messages newer than the room's index, up to budget; returns the number read
+        private long indexNewer(ChatRoom chatRoom, User user, ChatSearchIndex.RoomIndex index, long budget) {
+                long read = 0;
+                while (read < budget && index.high() < chatRoom.getLastSeq()) {
+                        long fromSeq = index.high() + 1;
+                        long toSeq = Math.min(chatRoom.getLastSeq(),
+                                        fromSeq + Math.min(budget - read, SEARCH_INDEX_BATCH) - 1);
+                        chatSearchIndex.extend(index, fromSeq, toSeq, readRange(chatRoom, user, fromSeq, toSeq));
+                        read += toSeq - fromSeq + 1;
+                }
+                return read;
+        }
+
+        // Indexes history older than the room's index, newest first, up to budget; returns the number read
+        private long indexOlder(ChatRoom chatRoom, User user, ChatSearchIndex.RoomIndex index, long budget) {
+                long read = 0;
+                while (read < budget && index.low() > 0) {
+                        long toSeq = index.low();
+                        long fromSeq = Math.max(1, toSeq - Math.min(budget - read, SEARCH_INDEX_BATCH) + 1);
+                        chatSearchIndex.extend(index, fromSeq, toSeq, readRange(chatRoom, user, fromSeq, toSeq));
+                        read += toSeq - fromSeq + 1;
+                }
+                return read;
+        }
+
         // Helper: Get or create chat room between two users
         private ChatRoom getOrCreateChatBetweenUsers(User user1, User user2) {
                 // Ensure consistent ordering: lower ID first
@@ -188,33 +423,50 @@ public class ChatServiceImpl implements ChatService {
                 User second = user1.getId().equals(id2) ? user1 : user2;
 
                 return chatRoomRepository.findByUsers(id1, id2)
-                                .orElseGet(() -> chatRoomRepository.save(ChatRoom.builder()
-                                                .user1(first)
-                                                .user2(second)
-                                                .build()));
+                                .orElseGet(() -> {
+                                        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                                                        .user1(first)
+                                                        .user2(second)
+                                                        .build());
+                                        chatMembershipCache.roomCreated(chatRoom);
+                                        return chatRoom;
+                                });
         }
 
-        // Helper: Send message and create notification
-        private MessageDto sendMessageToRoom(ChatRoom chatRoom, User sender, String content) {
-                Message message = Message.builder()
-                                .chatRoom(chatRoom)
-                                .sender(sender)
-                                .content(content)
-                                .status(MessageStatus.SENT)
-                                .build();
-
-                message = messageRepository.save(message);
+        // Helper: Address a message for the ingest pipeline, which persists it and notifies the recipient
+        private MessageIngestPipeline.PendingMessage pendingMessage(ChatMembershipCache.Membership membership,
+                        Long senderId, String content) {
+                Long recipientId = membership.otherUser(senderId);
+                return new MessageIngestPipeline.PendingMessage(membership.chatRoomId(), senderId, recipientId,
+                                recipientId.equals(membership.user1Id()), content);
+        }
 
-                User otherUser = chatRoom.getOtherUser(sender.getId());
-                notificationService.createNotification(
-                                otherUser.getId(),
-                                NotificationType.MESSAGE,
-                                "New Message",
-                                sender.getName() + ": "
-                                                + (content.length() > 50 ? content.substring(0, 50) + "..." : content),
-                                chatRoom.getId());
+        private void validateContent(String content) {
+                if (content == null || content.isBlank()) {
+                        throw new ApiException("Message cannot be empty", HttpStatus.BAD_REQUEST);
+                }
+                if (content.length() > MAX_CONTENT_LENGTH) {
+                        throw new ApiException("Message is too long", HttpStatus.BAD_REQUEST);
+                }
+        }
 
-                return toMessageDto(message, sender);
+        // One UPDATE on the room moves the watermark; both participants get a single receipt event
+        private void markRead(ChatRoom chatRoom, User user, long upToSeq) {
+                long previous = chatRoom.getReadSeqFor(user.getId());
+                Long readSeq = chatRoomRepository.advanceReadSeq(chatRoom.getId(), user.getId(), upToSeq);
+                if (readSeq == null || readSeq <= previous) {
+                        return;
+                }
+                ReadReceiptDto receipt = ReadReceiptDto.builder()
+                                .chatRoomId(chatRoom.getId())
+                                .userId(user.getId())
+                                .readSeq(readSeq)
+                                .build();
+                Long otherUserId = chatRoom.getOtherUser(user.getId()).getId();
+                TransactionCallbacks.afterCommit(() -> {
+                        messagingTemplate.convertAndSendToUser(otherUserId.toString(), READ_RECEIPTS_QUEUE, receipt);
+                        messagingTemplate.convertAndSendToUser(user.getId().toString(), READ_RECEIPTS_QUEUE, receipt);
+                });
         }
 
         private ChatRoom getChatRoomWithAccess(Long chatRoomId, User user) {
@@ -242,14 +494,40 @@ public class ChatServiceImpl implements ChatService {
                 }
         }
 
-        private MessageDto toMessageDto(Message m, User currentUser) {
+        // Derived from the recipient's watermarks: READ once read, DELIVERED once their client acked it
+        private MessageStatus statusOf(long seq, Long senderId, MessageStatus stored, ChatRoom chatRoom) {
+                Long recipientId = chatRoom.getOtherUser(senderId).getId();
+                if (seq <= chatRoom.getReadSeqFor(recipientId)) {
+                        return MessageStatus.READ;
+                }
+                return seq <= chatRoom.getDeliveredSeqFor(recipientId) ? MessageStatus.DELIVERED : stored;
+        }
+
+        private MessageDto toMessageDto(ArchivedMessage m, ChatRoom chatRoom, User currentUser) {
+                User sender = chatRoom.getUser1().getId().equals(m.senderId()) ? chatRoom.getUser1()
+                                : chatRoom.getUser2();
+                return MessageDto.builder()
+                                .id(m.id())
+                                .chatRoomId(chatRoom.getId())
+                                .seq(m.seq())
+                                .senderId(m.senderId())
+                                .senderName(sender.getName())
+                                .content(m.content())
+                                .status(statusOf(m.seq(), m.senderId(), m.status(), chatRoom))
+                                .createdAt(m.createdAt())
+                                .isOwn(currentUser.getId().equals(m.senderId()))
+                                .build();
+        }
+
+        private MessageDto toMessageDto(Message m, ChatRoom chatRoom, User currentUser) {
                 return MessageDto.builder()
                                 .id(m.getId())
                                 .chatRoomId(m.getChatRoom().getId())
+                                .seq(m.getSeq())
                                 .senderId(m.getSender().getId())
                                 .senderName(m.getSender().getName())
                                 .content(m.getContent())
-                                .status(m.getStatus())
+                                .status(statusOf(m.getSeq(), m.getSender().getId(), m.getStatus(), chatRoom))
                                 .createdAt(m.getCreatedAt())
                                 .isOwn(m.getSender().getId().equals(currentUser.getId()))
                                 .build();
@@ -1,7 +1,8 @@
 package com.jobswipe.service.impl;
 
+import com.jobswipe.config.CacheNames;
+import com.jobswipe.domain.entity.ApplicationStatus;
 import com.jobswipe.domain.entity.CompanyProfile;
-import com.jobswipe.domain.entity.JobPost;
 import com.jobswipe.domain.entity.JobStatus;
 import com.jobswipe.domain.entity.SeekerProfile;
 import com.jobswipe.domain.repository.ApplicationRepository;
@@ -13,12 +14,17 @@ import com.jobswipe.dto.job.JobWithStatusDto;
 import com.jobswipe.dto.profile.CompanyProfileDto;
 import com.jobswipe.exception.ApiException;
 import com.jobswipe.service.CompanyService;
+import com.jobswipe.service.support.JobCardAssembler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +34,7 @@ public class CompanyServiceImpl implements CompanyService {
     private final JobPostRepository jobRepository;
     private final ApplicationRepository applicationRepository;
     private final SeekerProfileRepository seekerRepository;
+    private final JobCardAssembler jobCardAssembler;
 
     @Override
     public Page<CompanyProfileDto> searchCompanies(String query, Pageable pageable) {
@@ -39,6 +46,7 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.COMPANIES, key = "#companyId")
     public CompanyProfileDto getCompany(Long companyId) {
         return companyRepository.findById(companyId)
                 .map(this::toCompanyProfileDto)
@@ -53,19 +61,26 @@ public class CompanyServiceImpl implements CompanyService {
 
         SeekerProfile seeker = seekerRepository.findByUserId(userId).orElse(null);
 
-        return jobRepository.findByCompanyAndStatus(company, JobStatus.OPEN, pageable)
-                .map(job -> {
-                    var appStatus = seeker != null
-                            ? applicationRepository.findBySeekerAndJob(seeker, job)
-                            : java.util.Optional.<com.jobswipe.domain.entity.Application>empty();
+        Page<JobPostDto> jobs = jobCardAssembler.toDtos(
+                jobRepository.findCardsByCompanyIdAndStatus(company.getId(), JobStatus.OPEN, pageable));
 
-                    return JobWithStatusDto.builder()
-                            .job(toJobPostDto(job))
-                            .applicationStatus(
-                                    appStatus.map(com.jobswipe.domain.entity.Application::getStatus).orElse(null))
-                            .applicationId(appStatus.map(com.jobswipe.domain.entity.Application::getId).orElse(null))
-                            .build();
-                });
+        // One query for the seeker's applications across the whole page, joined in memory
+        Map<Long, Object[]> applications = new HashMap<>();
+        if (seeker != null && jobs.hasContent()) {
+            List<Long> jobIds = jobs.map(JobPostDto::getId).getContent();
+            for (Object[] row : applicationRepository.findStatusesBySeekerAndJobIdIn(seeker.getId(), jobIds)) {
+                applications.put((Long) row[0], row);
+            }
+        }
+
+        return jobs.map(job -> {
+            Object[] application = applications.get(job.getId());
+            return JobWithStatusDto.builder()
+                    .job(job)
+                    .applicationId(application != null ? (Long) application[1] : null)
+                    .applicationStatus(application != null ? (ApplicationStatus) application[2] : null)
+                    .build();
+        });
     }
 
     private CompanyProfileDto toCompanyProfileDto(CompanyProfile c) {
@@ -80,21 +95,4 @@ public class CompanyServiceImpl implements CompanyService {
                 .size(c.getSize())
                 .build();
     }
-
-    private JobPostDto toJobPostDto(JobPost job) {
-        return JobPostDto.builder()
-                .id(job.getId())
-                .title(job.getTitle())
-                .location(job.getLocation())
-                .type(job.getType())
-                .salaryMin(job.getSalaryMin())
-                .salaryMax(job.getSalaryMax())
-                .description(job.getDescription())
-                .requirements(job.getRequirements())
-                .skills(job.getSkills())
-                .status(job.getStatus())
-                .createdAt(job.getCreatedAt())
-                .company(toCompanyProfileDto(job.getCompany()))
-                .build();
-    }
 }
@@ -52,7 +52,7 @@ public class ConnectionServiceImpl implements ConnectionService {
         connection = connectionRepository.save(connection);
 
         // Notify the receiver
-        notificationService.createNotification(
+        notificationService.enqueueNotification(
                 targetUserId,
                 NotificationType.PROFILE_VIEW,
                 "Connection Request",
@@ -79,7 +79,7 @@ public class ConnectionServiceImpl implements ConnectionService {
         connectionRepository.save(connection);
 
         // Notify the requester
-        notificationService.createNotification(
+        notificationService.enqueueNotification(
                 connection.getRequester().getId(),
                 NotificationType.MATCH,
                 "Connection Accepted! 🎉",
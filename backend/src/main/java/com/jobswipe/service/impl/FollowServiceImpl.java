@@ -45,7 +45,7 @@ public class FollowServiceImpl implements FollowService {
         followRepository.save(follow);
 
         // Notify the user being followed
-        notificationService.createNotification(
+        notificationService.enqueueNotification(
                 targetUserId,
                 NotificationType.FOLLOW,
                 "New Follower",
@@ -1,38 +1,136 @@
 package com.jobswipe.service.impl;
 
+import com.jobswipe.config.CacheNames;
 import com.jobswipe.domain.entity.*;
 import com.jobswipe.domain.repository.*;
+import com.jobswipe.dto.common.CursorPageDto;
 import com.jobswipe.dto.job.*;
+import com.jobswipe.dto.notification.NotificationRequest;
 import com.jobswipe.dto.profile.CompanyProfileDto;
 import com.jobswipe.exception.ApiException;
+import com.jobswipe.index.JobIndexer;
+import com.jobswipe.index.JobRankingIndex;
+import com.jobswipe.index.JobFacetIndex;
+import com.jobswipe.index.JobFilter;
+import com.jobswipe.index.JobSearchIndex;
+import com.jobswipe.index.SkillDictionary;
+import com.jobswipe.index.SeekerExclusionIndex;
+import com.jobswipe.service.support.DtoCacheEvictor;
+import com.jobswipe.service.support.JobCardAssembler;
+import com.jobswipe.service.support.JobFunnelCounter;
 import com.jobswipe.service.JobService;
+import com.jobswipe.service.NotificationService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JobServiceImpl implements JobService {
 
+    private static final String CURSOR_PREFIX = "j:";
+    private static final int MAX_DECK_SIZE = 50;
+
     private final JobPostRepository jobPostRepository;
     private final SeekerProfileRepository seekerProfileRepository;
     private final CompanyProfileRepository companyProfileRepository;
     private final UserRepository userRepository;
+    private final JobSkipRepository jobSkipRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobFunnelStatsRepository jobFunnelStatsRepository;
+    private final NotificationService notificationService;
+    private final JobRankingIndex jobRankingIndex;
+    private final SkillDictionary skillDictionary;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobFacetIndex jobFacetIndex;
+    private final SeekerExclusionIndex seekerExclusionIndex;
+    private final JobIndexer jobIndexer;
+    private final JobCardAssembler jobCardAssembler;
+    private final DtoCacheEvictor dtoCacheEvictor;
+    private final JobFunnelCounter jobFunnelCounter;
+
+    @Value("${app.jobs.default-ttl-days:30}")
+    private int defaultTtlDays;
+
+    @Override
+    public Page<JobPostDto> getAvailableJobsForSeeker(Long userId, JobFilter filter, Pageable pageable) {
+        validate(filter);
+        SeekerProfile seeker = seekerProfileRepository.findByUserId(userId)
+                .orElseThrow(() -> new ApiException("Profile not found", HttpStatus.NOT_FOUND));
+
+        return jobCardAssembler.toDtos(
+                jobPostRepository.findAvailableCardsForSeeker(seeker.getId(), JobStatus.OPEN, filter.type(),
+                        filter.locationPattern(), filter.industry(), filter.salaryMin(), filter.salaryMax(), pageable));
+    }
 
     @Override
-    public Page<JobPostDto> getAvailableJobsForSeeker(Long userId, Pageable pageable) {
+    public CursorPageDto<JobPostDto> getSwipeDeck(Long userId, JobFilter filter, String cursor, int size) {
+        validate(filter);
         SeekerProfile seeker = seekerProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new ApiException("Profile not found", HttpStatus.NOT_FOUND));
 
-        Page<JobPost> jobs = jobPostRepository.findAvailableJobsForSeeker(seeker.getId(), JobStatus.OPEN, pageable);
-        return jobs.map(this::toDto);
+        int limit = Math.max(1, Math.min(size, MAX_DECK_SIZE));
+        long beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : decodeCursor(cursor);
+
+        // Fetch one extra row to know whether another page exists
+        List<JobCardRow> jobs = jobPostRepository.findSwipeDeckCards(seeker.getId(), JobStatus.OPEN, beforeId,
+                filter.type(), filter.locationPattern(), filter.industry(), filter.salaryMin(), filter.salaryMax(),
+                PageRequest.of(0, limit + 1));
+        boolean hasMore = jobs.size() > limit;
+        List<JobCardRow> page = hasMore ? jobs.subList(0, limit) : jobs;
+
+        return CursorPageDto.<JobPostDto>builder()
+                .content(jobCardAssembler.toDtos(page))
+                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1).getId()) : null)
+                .hasMore(hasMore)
+                .build();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<JobPostDto> getRankedJobsForSeeker(Long userId, int size) {
+        SeekerProfile seeker = seekerProfileRepository.findByUserId(userId)
+                .orElseThrow(() -> new ApiException("Profile not found", HttpStatus.NOT_FOUND));
+
+        int limit = Math.max(1, Math.min(size, MAX_DECK_SIZE));
+        List<Long> jobIds = jobRankingIndex.topJobs(skillDictionary.encodeKnown(seeker.getSkills()),
+                seekerExclusionIndex.snapshot(seeker.getId()), limit);
+
+        return jobCardAssembler.loadInOrder(jobIds).stream()
+                .filter(job -> job.getStatus() == JobStatus.OPEN)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Page<JobPostDto> searchJobs(String query, JobFilter filter, Pageable pageable) {
+        validate(filter);
+        Page<Long> hits = jobSearchIndex.search(query, filter, pageable);
+        // The index only holds open jobs, so every hit still exists unless it was deleted a moment ago
+        return new PageImpl<>(jobCardAssembler.loadInOrder(hits.getContent()), pageable, hits.getTotalElements());
+    }
+
+    @Override
+    public JobFacetsDto getJobFacets(JobFilter filter) {
+        validate(filter);
+        return jobFacetIndex.counts(filter);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.JOBS, key = "#jobId")
     public JobPostDto getJobById(Long jobId) {
         JobPost job = jobPostRepository.findById(jobId)
                 .orElseThrow(() -> new ApiException("Job not found", HttpStatus.NOT_FOUND));
@@ -55,9 +153,13 @@ public class JobServiceImpl implements JobService {
                 .description(request.getDescription())
                 .requirements(request.getRequirements())
                 .skills(request.getSkills() != null ? request.getSkills() : List.of())
+                .expiresAt(request.getExpiresAt() != null ? request.getExpiresAt()
+                        : LocalDateTime.now().plusDays(defaultTtlDays))
                 .build();
 
-        return toDto(jobPostRepository.save(job));
+        job = jobPostRepository.save(job);
+        jobIndexer.jobSaved(job);
+        return toDto(job);
     }
 
     @Override
@@ -73,25 +175,44 @@ public class JobServiceImpl implements JobService {
         job.setDescription(request.getDescription());
         job.setRequirements(request.getRequirements());
         job.setSkills(request.getSkills() != null ? request.getSkills() : List.of());
+        if (request.getExpiresAt() != null) {
+            job.setExpiresAt(request.getExpiresAt());
+        }
 
-        return toDto(jobPostRepository.save(job));
+        job = jobPostRepository.save(job);
+        jobIndexer.jobSaved(job);
+        dtoCacheEvictor.evictJob(jobId);
+        return toDto(job);
     }
 
     @Override
     @Transactional
     public void deleteJob(Long userId, Long jobId) {
         JobPost job = getJobForCompany(userId, jobId);
+        jobSkipRepository.deleteByJobId(job.getId());
+        jobFunnelStatsRepository.deleteByJobId(job.getId());
         jobPostRepository.delete(job);
+        jobIndexer.jobRemoved(jobId);
+        dtoCacheEvictor.evictJob(jobId);
     }
 
     @Override
-    public List<JobPostDto> getCompanyJobs(Long userId) {
+    public List<JobPostDto> getCompanyJobs(Long userId, JobFilter filter) {
         CompanyProfile company = companyProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new ApiException("Company profile not found", HttpStatus.NOT_FOUND));
 
-        return jobPostRepository.findByCompany(company).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<JobPostDto> jobs = jobCardAssembler.toDtos(jobPostRepository.findCardsByCompanyId(company.getId(),
+                filter.type(), filter.locationPattern(), filter.industry(), filter.salaryMin(), filter.salaryMax()));
+        if (jobs.isEmpty()) {
+            return jobs;
+        }
+
+        // Counters for every listed job in one lookup instead of a count query per job and status
+        Map<Long, JobFunnelStats> funnels = jobFunnelStatsRepository
+                .findByJobIdIn(jobs.stream().map(JobPostDto::getId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(JobFunnelStats::getJobId, Function.identity()));
+        jobs.forEach(job -> job.setFunnel(toFunnelDto(funnels.get(job.getId()))));
+        return jobs;
     }
 
     @Override
@@ -99,7 +220,39 @@ public class JobServiceImpl implements JobService {
     public JobPostDto closeJob(Long userId, Long jobId) {
         JobPost job = getJobForCompany(userId, jobId);
         job.close();
-        return toDto(jobPostRepository.save(job));
+        job = jobPostRepository.save(job);
+        jobIndexer.jobRemoved(jobId);
+        dtoCacheEvictor.evictJob(jobId);
+        return toDto(job);
+    }
+
+    @Override
+    @Transactional
+    public int closeExpiredJobs(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> jobIds = jobPostRepository.closeExpired(now, batchSize);
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rejected = applicationRepository.rejectUndecidedByJobIdIn(jobIds, now);
+        jobFunnelCounter.recount(jobIds);
+
+        List<NotificationRequest> notifications = rejected.stream()
+                .map(row -> NotificationRequest.builder()
+                        .userId(((Number) row[1]).longValue())
+                        .type(NotificationType.APPLICATION_STATUS)
+                        .title("Application Update")
+                        .message("The position " + row[2] + " has closed and is no longer reviewing applications")
+                        .relatedId(((Number) row[0]).longValue())
+                        .build())
+                .collect(Collectors.toList());
+        notificationService.enqueueNotifications(notifications);
+
+        jobIndexer.jobsRemoved(jobIds);
+        dtoCacheEvictor.evictJobs(jobIds);
+        log.info("Closed {} expired jobs, rejected {} open applications", jobIds.size(), notifications.size());
+        return jobIds.size();
     }
 
     private JobPost getJobForCompany(Long userId, Long jobId) {
@@ -115,6 +268,42 @@ public class JobServiceImpl implements JobService {
         return job;
     }
 
+    private JobFunnelDto toFunnelDto(JobFunnelStats stats) {
+        if (stats == null) {
+            return new JobFunnelDto();
+        }
+        return JobFunnelDto.builder()
+                .pending(stats.getPending())
+                .viewed(stats.getViewed())
+                .accepted(stats.getAccepted())
+                .rejected(stats.getRejected())
+                .matches(stats.getMatches())
+                .build();
+    }
+
+    private void validate(JobFilter filter) {
+        if (filter.salaryMin() != null && filter.salaryMax() != null && filter.salaryMin() > filter.salaryMax()) {
+            throw new ApiException("salaryMin must not exceed salaryMax", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private String encodeCursor(Long jobId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + jobId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException(raw);
+            }
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException("Invalid cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+
     private JobPostDto toDto(JobPost j) {
         return JobPostDto.builder()
                 .id(j.getId())
@@ -125,9 +314,11 @@ public class JobServiceImpl implements JobService {
                 .salaryMax(j.getSalaryMax())
                 .description(j.getDescription())
                 .requirements(j.getRequirements())
-                .skills(j.getSkills())
+                // A copy: the DTO is cached and shared, Hibernate's bag belongs to one session
+                .skills(new ArrayList<>(j.getSkills()))
                 .status(j.getStatus())
                 .createdAt(j.getCreatedAt())
+                .expiresAt(j.getExpiresAt())
                 .company(CompanyProfileDto.builder()
                         .id(j.getCompany().getId())
                         .userId(j.getCompany().getUser().getId())
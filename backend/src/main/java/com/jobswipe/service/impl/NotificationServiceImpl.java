@@ -2,28 +2,47 @@ package com.jobswipe.service.impl;
 
 import com.jobswipe.domain.entity.Notification;
 import com.jobswipe.domain.entity.NotificationType;
-import com.jobswipe.domain.entity.User;
+import com.jobswipe.domain.entity.OutboxEvent;
 import com.jobswipe.domain.repository.NotificationRepository;
+import com.jobswipe.domain.repository.OutboxEventRepository;
 import com.jobswipe.domain.repository.UserRepository;
+import com.jobswipe.dto.chat.UserEventDto;
 import com.jobswipe.dto.notification.NotificationDto;
+import com.jobswipe.dto.notification.NotificationRequest;
 import com.jobswipe.exception.ApiException;
 import com.jobswipe.service.NotificationService;
+import com.jobswipe.service.support.UserEventStream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final long MAX_RETRY_DELAY_SECONDS = 300;
+
     private final NotificationRepository notificationRepository;
+    private final OutboxEventRepository outboxEventRepository;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserEventStream userEventStream;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
 
     @Override
     public List<NotificationDto> getNotifications(Long userId, int limit) {
@@ -64,23 +83,102 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     @Transactional
-    public void createNotification(Long userId, NotificationType type, String title, String message, Long relatedId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-
-        Notification notification = Notification.builder()
-                .user(user)
+    public void enqueueNotification(Long userId, NotificationType type, String title, String message,
+            Long relatedId) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .recipientId(userId)
                 .type(type)
                 .title(title)
                 .message(message)
                 .relatedId(relatedId)
-                .build();
+                .build());
+    }
 
-        notification = notificationRepository.save(notification);
+    @Override
+    @Transactional
+    public void enqueueNotifications(List<NotificationRequest> requests) {
+        outboxEventRepository.saveAll(requests.stream()
+                .map(r -> OutboxEvent.builder()
+                        .recipientId(r.getUserId())
+                        .type(r.getType())
+                        .title(r.getTitle())
+                        .message(r.getMessage())
+                        .relatedId(r.getRelatedId())
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public int dispatchOutbox(int batchSize) {
+        List<Long> ids = outboxEventRepository.findDispatchableIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Notification> delivered;
+        try {
+            delivered = transactionTemplate.execute(status -> deliver(ids));
+        } catch (RuntimeException e) {
+            // Isolate the bad event(s) so the rest of the batch still goes out
+            log.warn("Outbox batch of {} failed, retrying one by one: {}", ids.size(), e.getMessage());
+            delivered = new ArrayList<>();
+            for (Long id : ids) {
+                delivered.addAll(deliverOne(id));
+            }
+        }
+
+        // Push only after the notifications are committed
+        delivered.forEach(n -> push(n.getUser().getId(), toDto(n)));
+        return ids.size();
+    }
+
+    private List<Notification> deliver(Collection<Long> ids) {
+        List<OutboxEvent> events = outboxEventRepository.lockByIdIn(ids);
+        List<Notification> notifications = events.stream()
+                .map(e -> Notification.builder()
+                        .user(userRepository.getReferenceById(e.getRecipientId()))
+                        .type(e.getType())
+                        .title(e.getTitle())
+                        .message(e.getMessage())
+                        .relatedId(e.getRelatedId())
+                        .build())
+                .collect(Collectors.toList());
+
+        notificationRepository.saveAll(notifications);
+        outboxEventRepository.deleteAllInBatch(events);
+        return notifications;
+    }
+
+    private List<Notification> deliverOne(Long id) {
+        try {
+            return transactionTemplate.execute(status -> deliver(List.of(id)));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> recordFailure(id, e));
+            return List.of();
+        }
+    }
+
+    private void recordFailure(Long id, RuntimeException error) {
+        outboxEventRepository.findById(id).ifPresent(event -> {
+            int attempts = event.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                log.error("Dropping outbox event {} for user {} after {} attempts", id, event.getRecipientId(),
+                        attempts, error);
+                outboxEventRepository.delete(event);
+                return;
+            }
+            String message = String.valueOf(error.getMessage());
+            event.setAttempts(attempts);
+            event.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+            // Exponential backoff capped at five minutes
+            event.setNextAttemptAt(LocalDateTime.now()
+                    .plusSeconds(Math.min(1L << Math.min(attempts, 20), MAX_RETRY_DELAY_SECONDS)));
+        });
+    }
 
-        // Broadcast notification to user
-        NotificationDto dto = toDto(notification);
+    private void push(Long userId, NotificationDto dto) {
         messagingTemplate.convertAndSend("/topic/notifications/" + userId, dto);
+        userEventStream.publish(userId, UserEventDto.Type.NOTIFICATION, dto);
     }
 
     private NotificationDto toDto(Notification notification) {
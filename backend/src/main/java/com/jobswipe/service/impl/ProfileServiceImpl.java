@@ -1,14 +1,19 @@
 package com.jobswipe.service.impl;
 
+import com.jobswipe.config.CacheNames;
 import com.jobswipe.domain.entity.*;
 import com.jobswipe.domain.repository.*;
 import com.jobswipe.dto.profile.*;
 import com.jobswipe.exception.ApiException;
+import com.jobswipe.index.JobIndexer;
 import com.jobswipe.service.ProfileService;
+import com.jobswipe.service.support.DtoCacheEvictor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +22,8 @@ public class ProfileServiceImpl implements ProfileService {
     private final UserRepository userRepository;
     private final SeekerProfileRepository seekerProfileRepository;
     private final CompanyProfileRepository companyProfileRepository;
+    private final JobIndexer jobIndexer;
+    private final DtoCacheEvictor dtoCacheEvictor;
 
     @Override
     public SeekerProfileDto getSeekerProfile(Long userId) {
@@ -62,6 +69,10 @@ public class ProfileServiceImpl implements ProfileService {
         CompanyProfile profile = companyProfileRepository.findByUser(user)
                 .orElseThrow(() -> new ApiException("Profile not found", HttpStatus.NOT_FOUND));
 
+        if (!Objects.equals(profile.getIndustry(), dto.getIndustry())) {
+            // Open jobs are bucketed by their company's industry
+            jobIndexer.companyIndustryChanged(profile.getId(), dto.getIndustry());
+        }
         profile.setIndustry(dto.getIndustry());
         profile.setLocation(dto.getLocation());
         profile.setSize(dto.getSize());
@@ -69,6 +80,7 @@ public class ProfileServiceImpl implements ProfileService {
         profile.setDescription(dto.getDescription());
         profile.setFounded(dto.getFounded());
         profile.setLogoUrl(dto.getLogoUrl());
+        dtoCacheEvictor.evictCompany(profile.getId());
 
         return toCompanyDto(companyProfileRepository.save(profile));
     }
@@ -81,6 +93,7 @@ public class ProfileServiceImpl implements ProfileService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.COMPANY_PROFILES, key = "#companyId")
     public CompanyProfileDto getPublicCompanyProfile(Long companyId) {
         CompanyProfile profile = companyProfileRepository.findById(companyId)
                 .orElseThrow(() -> new ApiException("Profile not found", HttpStatus.NOT_FOUND));
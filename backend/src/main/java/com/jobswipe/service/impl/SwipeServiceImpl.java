@@ -5,15 +5,23 @@ import com.jobswipe.domain.repository.*;
 import com.jobswipe.dto.swipe.*;
 import com.jobswipe.dto.application.ApplicationDto;
 import com.jobswipe.dto.job.JobPostDto;
+import com.jobswipe.dto.notification.NotificationRequest;
 import com.jobswipe.dto.profile.*;
 import com.jobswipe.exception.ApiException;
+import com.jobswipe.index.ApplicantRankingIndex;
+import com.jobswipe.index.SeekerExclusionIndex;
 import com.jobswipe.service.NotificationService;
 import com.jobswipe.service.SwipeService;
+import com.jobswipe.service.support.JobFunnelCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,7 +32,11 @@ public class SwipeServiceImpl implements SwipeService {
         private final SeekerProfileRepository seekerProfileRepository;
         private final CompanyProfileRepository companyProfileRepository;
         private final MatchRepository matchRepository;
+        private final JobSkipRepository jobSkipRepository;
         private final NotificationService notificationService;
+        private final SeekerExclusionIndex seekerExclusionIndex;
+        private final ApplicantRankingIndex applicantRankingIndex;
+        private final JobFunnelCounter jobFunnelCounter;
 
         @Override
         @Transactional
@@ -36,26 +48,29 @@ public class SwipeServiceImpl implements SwipeService {
                                 .orElseThrow(() -> new ApiException("Job not found", HttpStatus.NOT_FOUND));
 
                 if (request.getDirection() == SwipeRequest.SwipeDirection.LEFT) {
-                        return SwipeResponse.builder().success(true).isMatch(false).message("Job skipped").build();
+                        // Remember the skip so the job stays out of this seeker's feed
+                        if (!seekerExclusionIndex.isExcluded(seeker.getId(), job.getId())) {
+                                // The index is only updated after commit, so a concurrent skip can get past the check
+                                jobSkipRepository.insertIfAbsent(seeker.getId(), job.getId(), LocalDateTime.now());
+                                seekerExclusionIndex.excludeAfterCommit(seeker.getId(), job.getId());
+                        }
+                        return skipped();
                 }
 
                 // Right swipe = Apply
                 if (applicationRepository.existsBySeekerAndJob(seeker, job)) {
-                        return SwipeResponse.builder().success(false).isMatch(false).message("Already applied").build();
+                        return failure("Already applied");
                 }
 
                 Application application = Application.builder().seeker(seeker).job(job).build();
                 applicationRepository.save(application);
+                seekerExclusionIndex.excludeAfterCommit(seeker.getId(), job.getId());
+                applicantRankingIndex.applicationAdded(application);
+                jobFunnelCounter.applied(job.getId());
 
-                // Notify company of new application
-                notificationService.createNotification(
-                                job.getCompany().getUser().getId(),
-                                NotificationType.APPLICATION,
-                                "New Application",
-                                seeker.getUser().getName() + " applied to " + job.getTitle(),
-                                application.getId());
+                notifyNewApplication(application);
 
-                return SwipeResponse.builder().success(true).isMatch(false).message("Application submitted").build();
+                return applied();
         }
 
         @Override
@@ -71,51 +86,141 @@ public class SwipeServiceImpl implements SwipeService {
                         throw new ApiException("Access denied", HttpStatus.FORBIDDEN);
                 }
 
+                ApplicationStatus previous = application.getStatus();
                 if (request.getDirection() == SwipeRequest.SwipeDirection.LEFT) {
                         application.reject();
                         applicationRepository.save(application);
-
-                        // Notify seeker of rejection
-                        notificationService.createNotification(
-                                        application.getSeeker().getUser().getId(),
-                                        NotificationType.APPLICATION_STATUS,
-                                        "Application Update",
-                                        "Your application for " + application.getJob().getTitle() + " was not selected",
-                                        application.getId());
-
-                        return SwipeResponse.builder().success(true).isMatch(false).message("Candidate rejected")
-                                        .build();
+                        jobFunnelCounter.rejected(application.getJob().getId(), previous);
+                        applicantRankingIndex.applicationDecided(application.getJob().getId(), application.getId());
+                        notifyRejection(application);
+                        return rejected();
                 }
 
                 // Right swipe = Accept = Match!
                 application.accept();
                 applicationRepository.save(application);
+                applicantRankingIndex.applicationDecided(application.getJob().getId(), application.getId());
+                jobFunnelCounter.matched(application.getJob().getId(), previous);
 
                 Match match = Match.builder().application(application).build();
                 matchRepository.save(match);
 
-                // Notify both parties of the match
-                String seekerName = application.getSeeker().getUser().getName();
-                String companyName = company.getUser().getName();
-                String jobTitle = application.getJob().getTitle();
+                notifyMatch(application, company);
 
-                // Notify seeker
-                notificationService.createNotification(
-                                application.getSeeker().getUser().getId(),
-                                NotificationType.MATCH,
-                                "It's a Match! 🎉",
-                                "You matched with " + companyName + " for " + jobTitle,
-                                application.getJob().getId());
+                return matched();
+        }
 
-                // Notify company
-                notificationService.createNotification(
-                                company.getUser().getId(),
-                                NotificationType.MATCH,
-                                "It's a Match! 🎉",
-                                "You matched with " + seekerName + " for " + jobTitle,
-                                application.getSeeker().getUser().getId());
+        @Override
+        @Transactional
+        public List<SwipeResponse> swipeJobs(Long userId, List<SwipeRequest> requests) {
+                SeekerProfile seeker = seekerProfileRepository.findByUserId(userId)
+                                .orElseThrow(() -> new ApiException("Profile not found", HttpStatus.NOT_FOUND));
 
-                return SwipeResponse.builder().success(true).isMatch(true).message("It's a match!").build();
+                Set<Long> jobIds = requests.stream()
+                                .map(SwipeRequest::getJobId)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toSet());
+
+                // One query each for the jobs and for what the seeker already applied to
+                Map<Long, JobPost> jobs = jobIds.isEmpty() ? Map.of()
+                                : jobPostRepository.findAllWithCompanyByIdIn(jobIds).stream()
+                                                .collect(Collectors.toMap(JobPost::getId, Function.identity()));
+                Set<Long> appliedJobIds = jobIds.isEmpty() ? new HashSet<>()
+                                : new HashSet<>(applicationRepository.findJobIdsBySeekerAndJobIdIn(seeker, jobIds));
+                Set<Long> skippedJobIds = new HashSet<>();
+
+                List<SwipeResponse> results = new ArrayList<>(requests.size());
+                List<Application> applications = new ArrayList<>();
+
+                for (SwipeRequest request : requests) {
+                        JobPost job = jobs.get(request.getJobId());
+                        if (job == null) {
+                                results.add(failure("Job not found"));
+                        } else if (request.getDirection() == null) {
+                                results.add(failure("Swipe direction is required"));
+                        } else if (request.getDirection() == SwipeRequest.SwipeDirection.LEFT) {
+                                if (!seekerExclusionIndex.isExcluded(seeker.getId(), job.getId())
+                                                && !appliedJobIds.contains(job.getId())) {
+                                        skippedJobIds.add(job.getId());
+                                }
+                                results.add(skipped());
+                        } else if (!appliedJobIds.add(job.getId())) {
+                                results.add(failure("Already applied"));
+                        } else {
+                                applications.add(Application.builder().seeker(seeker).job(job).build());
+                                results.add(applied());
+                        }
+                }
+
+                // Skips already stored by a retried or concurrent batch are left alone, as in swipeJob
+                List<Long> newlySkipped = skippedJobIds.isEmpty() ? List.of()
+                                : jobSkipRepository.insertAllIfAbsent(seeker.getId(), skippedJobIds, LocalDateTime.now());
+                applicationRepository.saveAll(applications);
+
+                newlySkipped.forEach(jobId -> seekerExclusionIndex.excludeAfterCommit(seeker.getId(), jobId));
+                applications.forEach(application -> {
+                        seekerExclusionIndex.excludeAfterCommit(seeker.getId(), application.getJob().getId());
+                        applicantRankingIndex.applicationAdded(application);
+                        jobFunnelCounter.applied(application.getJob().getId());
+                        notifyNewApplication(application);
+                });
+
+                return results;
+        }
+
+        @Override
+        @Transactional
+        public List<SwipeResponse> swipeApplicants(Long userId, List<SwipeRequest> requests) {
+                CompanyProfile company = companyProfileRepository.findByUserId(userId)
+                                .orElseThrow(() -> new ApiException("Profile not found", HttpStatus.NOT_FOUND));
+
+                Set<Long> applicationIds = requests.stream()
+                                .map(SwipeRequest::getApplicationId)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toSet());
+
+                Map<Long, Application> applications = applicationIds.isEmpty() ? Map.of()
+                                : applicationRepository.findAllWithSeekerAndJobByIdIn(applicationIds).stream()
+                                                .collect(Collectors.toMap(Application::getId, Function.identity()));
+
+                List<SwipeResponse> results = new ArrayList<>(requests.size());
+                List<Match> matches = new ArrayList<>();
+                List<Application> rejectedApplications = new ArrayList<>();
+
+                for (SwipeRequest request : requests) {
+                        Application application = applications.get(request.getApplicationId());
+                        if (application == null) {
+                                results.add(failure("Application not found"));
+                        } else if (!application.getJob().getCompany().getId().equals(company.getId())) {
+                                results.add(failure("Access denied"));
+                        } else if (request.getDirection() == null) {
+                                results.add(failure("Swipe direction is required"));
+                        } else if (application.getStatus() == ApplicationStatus.ACCEPTED) {
+                                results.add(failure("Already matched"));
+                        } else if (request.getDirection() == SwipeRequest.SwipeDirection.LEFT) {
+                                jobFunnelCounter.rejected(application.getJob().getId(), application.getStatus());
+                                application.reject();
+                                applicantRankingIndex.applicationDecided(application.getJob().getId(),
+                                                application.getId());
+                                rejectedApplications.add(application);
+                                results.add(rejected());
+                        } else {
+                                jobFunnelCounter.matched(application.getJob().getId(), application.getStatus());
+                                application.accept();
+                                applicantRankingIndex.applicationDecided(application.getJob().getId(),
+                                                application.getId());
+                                matches.add(Match.builder().application(application).build());
+                                results.add(matched());
+                        }
+                }
+
+                // Status changes are flushed by dirty checking; matches go out as one batched insert
+                matchRepository.saveAll(matches);
+
+                rejectedApplications.forEach(this::notifyRejection);
+                matches.forEach(match -> notifyMatch(match.getApplication(), company));
+
+                return results;
         }
 
         @Override
@@ -139,28 +244,45 @@ public class SwipeServiceImpl implements SwipeService {
                         throw new ApiException("Access denied", HttpStatus.FORBIDDEN);
                 }
 
-                // Get all pending or viewed applications (not rejected/accepted)
-                Page<Application> applications = applicationRepository.findPendingOrViewedByJob(job, pageable);
-
-                // Mark PENDING applications as VIEWED when company views them
-                applications.getContent().forEach(app -> {
-                        if (app.getStatus() == ApplicationStatus.PENDING) {
-                                app.setStatus(ApplicationStatus.VIEWED);
-                                app.setReviewedAt(java.time.LocalDateTime.now());
-                                applicationRepository.save(app);
-
-                                // Notify seeker that company viewed their profile
-                                notificationService.createNotification(
-                                                app.getSeeker().getUser().getId(),
-                                                NotificationType.PROFILE_VIEW,
-                                                "Profile Viewed 👀",
-                                                company.getUser().getName() + " viewed your profile for "
-                                                                + job.getTitle(),
-                                                app.getId());
-                        }
-                });
+                // Pending or viewed applications in best-fit order, paged from the in-memory ranking
+                Page<Long> rankedIds = applicantRankingIndex.page(job, pageable);
+                Map<Long, Application> loaded = rankedIds.isEmpty() ? Map.of()
+                                : applicationRepository.findAllWithSeekerAndJobByIdIn(rankedIds.getContent()).stream()
+                                                .collect(Collectors.toMap(Application::getId, Function.identity()));
+                // Skip anything decided since the ranking was last updated
+                List<Application> applications = rankedIds.getContent().stream()
+                                .map(loaded::get)
+                                .filter(Objects::nonNull)
+                                .filter(app -> app.getStatus() == ApplicationStatus.PENDING
+                                                || app.getStatus() == ApplicationStatus.VIEWED)
+                                .collect(Collectors.toList());
+
+                // Mark PENDING applications as VIEWED in one statement, then notify only the rows it moved
+                Map<Long, Application> pending = applications.stream()
+                                .filter(app -> app.getStatus() == ApplicationStatus.PENDING)
+                                .collect(Collectors.toMap(Application::getId, Function.identity()));
+
+                if (!pending.isEmpty()) {
+                        List<Long> viewedIds = applicationRepository.markViewed(pending.keySet(),
+                                        LocalDateTime.now());
+                        jobFunnelCounter.viewed(job.getId(), viewedIds.size());
+                        String message = company.getUser().getName() + " viewed your profile for " + job.getTitle();
+
+                        notificationService.enqueueNotifications(viewedIds.stream()
+                                        .map(pending::get)
+                                        .map(app -> NotificationRequest.builder()
+                                                        .userId(app.getSeeker().getUser().getId())
+                                                        .type(NotificationType.PROFILE_VIEW)
+                                                        .title("Profile Viewed 👀")
+                                                        .message(message)
+                                                        .relatedId(app.getId())
+                                                        .build())
+                                        .collect(Collectors.toList()));
+                }
 
-                return applications.map(app -> toSeekerDto(app.getSeeker(), app.getId()));
+                return new PageImpl<>(applications.stream()
+                                .map(app -> toSeekerDto(app.getSeeker(), app.getId()))
+                                .collect(Collectors.toList()), pageable, rankedIds.getTotalElements());
         }
 
         @Override
@@ -172,6 +294,66 @@ public class SwipeServiceImpl implements SwipeService {
                                 .map(this::toProfileViewDto);
         }
 
+        private void notifyNewApplication(Application application) {
+                JobPost job = application.getJob();
+                notificationService.enqueueNotification(
+                                job.getCompany().getUser().getId(),
+                                NotificationType.APPLICATION,
+                                "New Application",
+                                application.getSeeker().getUser().getName() + " applied to " + job.getTitle(),
+                                application.getId());
+        }
+
+        private void notifyRejection(Application application) {
+                notificationService.enqueueNotification(
+                                application.getSeeker().getUser().getId(),
+                                NotificationType.APPLICATION_STATUS,
+                                "Application Update",
+                                "Your application for " + application.getJob().getTitle() + " was not selected",
+                                application.getId());
+        }
+
+        // Notify both parties of the match
+        private void notifyMatch(Application application, CompanyProfile company) {
+                String seekerName = application.getSeeker().getUser().getName();
+                String companyName = company.getUser().getName();
+                String jobTitle = application.getJob().getTitle();
+
+                notificationService.enqueueNotification(
+                                application.getSeeker().getUser().getId(),
+                                NotificationType.MATCH,
+                                "It's a Match! 🎉",
+                                "You matched with " + companyName + " for " + jobTitle,
+                                application.getJob().getId());
+
+                notificationService.enqueueNotification(
+                                company.getUser().getId(),
+                                NotificationType.MATCH,
+                                "It's a Match! 🎉",
+                                "You matched with " + seekerName + " for " + jobTitle,
+                                application.getSeeker().getUser().getId());
+        }
+
+        private SwipeResponse applied() {
+                return SwipeResponse.builder().success(true).isMatch(false).message("Application submitted").build();
+        }
+
+        private SwipeResponse skipped() {
+                return SwipeResponse.builder().success(true).isMatch(false).message("Job skipped").build();
+        }
+
+        private SwipeResponse rejected() {
+                return SwipeResponse.builder().success(true).isMatch(false).message("Candidate rejected").build();
+        }
+
+        private SwipeResponse matched() {
+                return SwipeResponse.builder().success(true).isMatch(true).message("It's a match!").build();
+        }
+
+        private SwipeResponse failure(String message) {
+                return SwipeResponse.builder().success(false).isMatch(false).message(message).build();
+        }
+
         private ProfileViewDto toProfileViewDto(Application app) {
                 String companyName = app.getJob().getCompany().getUser().getName();
                 return ProfileViewDto.builder()
@@ -0,0 +1,117 @@
+package com.jobswipe.service.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobswipe.domain.entity.ChatRoom;
+import com.jobswipe.domain.repository.ChatRoomRepository;
+import com.jobswipe.domain.repository.MatchRepository;
+import com.jobswipe.exception.ApiException;
+import com.jobswipe.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Who may post where, kept in memory for the message send path. Matches and chat rooms are
+ * never deleted and their participants never change, so entries are loaded on first use
+ * and stay valid; only the size is bounded. Rooms are added once their creation commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMembershipCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final MatchRepository matchRepository;
+
+    @Value("${app.chat.membership-cache-size:100000}")
+    private long maximumSize;
+
+    private Cache<Long, Membership> byRoom;
+    private Cache<Long, Participants> byMatch;
+    // Map<UserPair, ChatRoomId>; only rooms that exist are cached
+    private Cache<Participants, Long> roomByUsers;
+
+    @PostConstruct
+    void init() {
+        byRoom = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        byMatch = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        roomByUsers = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public Membership room(Long chatRoomId) {
+        Membership membership = byRoom.getIfPresent(chatRoomId);
+        if (membership == null) {
+            List<Object[]> rows = chatRoomRepository.findParticipantIds(chatRoomId);
+            if (rows.isEmpty()) {
+                throw new ApiException("Chat room not found", HttpStatus.NOT_FOUND);
+            }
+            membership = new Membership(chatRoomId, (Long) rows.get(0)[0], (Long) rows.get(0)[1]);
+            byRoom.put(chatRoomId, membership);
+        }
+        return membership;
+    }
+
+    // The seeker's and the company's user ids for a match
+    public Participants matchParticipants(Long matchId) {
+        Participants participants = byMatch.getIfPresent(matchId);
+        if (participants == null) {
+            List<Object[]> rows = matchRepository.findParticipantUserIds(matchId);
+            if (rows.isEmpty()) {
+                throw new ApiException("Match not found", HttpStatus.NOT_FOUND);
+            }
+            participants = Participants.of((Long) rows.get(0)[0], (Long) rows.get(0)[1]);
+            byMatch.put(matchId, participants);
+        }
+        return participants;
+    }
+
+    // The room between two users, or null when they have no room yet
+    public Membership roomBetween(Participants users) {
+        Long chatRoomId = roomByUsers.getIfPresent(users);
+        if (chatRoomId == null) {
+            chatRoomId = chatRoomRepository.findIdByUsers(users.lowId(), users.highId()).orElse(null);
+            if (chatRoomId == null) {
+                return null;
+            }
+            roomByUsers.put(users, chatRoomId);
+        }
+        return room(chatRoomId);
+    }
+
+    // Publishes a room created in the current transaction once it commits
+    public Membership roomCreated(ChatRoom chatRoom) {
+        Membership membership = new Membership(chatRoom.getId(), chatRoom.getUser1().getId(),
+                chatRoom.getUser2().getId());
+        TransactionCallbacks.afterCommit(() -> {
+            byRoom.put(membership.chatRoomId(), membership);
+            roomByUsers.put(Participants.of(membership.user1Id(), membership.user2Id()), membership.chatRoomId());
+        });
+        return membership;
+    }
+
+    public record Membership(Long chatRoomId, Long user1Id, Long user2Id) {
+
+        public boolean hasUser(Long userId) {
+            return user1Id.equals(userId) || user2Id.equals(userId);
+        }
+
+        public Long otherUser(Long userId) {
+            return user1Id.equals(userId) ? user2Id : user1Id;
+        }
+    }
+
+    // An unordered pair of user ids, stored low id first like chat_rooms.user1_id/user2_id
+    public record Participants(Long lowId, Long highId) {
+
+        public static Participants of(Long a, Long b) {
+            return a < b ? new Participants(a, b) : new Participants(b, a);
+        }
+
+        public boolean includes(Long userId) {
+            return lowId.equals(userId) || highId.equals(userId);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.jobswipe.service.support;
+
+import com.jobswipe.domain.repository.ChatRoomRepository;
+import com.jobswipe.dto.chat.DeliveryReceiptDto;
+import com.jobswipe.exception.ApiException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces delivery acks from clients. Acks only raise an in-memory high-water mark per
+ * user and room; a periodic flush writes each mark that moved in one transaction and tells
+ * the sender, so a busy room costs one UPDATE per participant per flush, not one per message.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryAckBuffer {
+
+    private static final String DELIVERIES_QUEUE = "/queue/deliveries";
+
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatRoomRepository chatRoomRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Key, Long> pending = new ConcurrentHashMap<>();
+
+    // The client has received every message in the room up to seq
+    public void ack(Long userId, Long chatRoomId, long seq) {
+        if (!chatMembershipCache.room(chatRoomId).hasUser(userId)) {
+            throw new ApiException("Access denied", HttpStatus.FORBIDDEN);
+        }
+        pending.merge(new Key(chatRoomId, userId), seq, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.delivery.flush-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Key, Long> batch = new HashMap<>();
+        for (Key key : new ArrayList<>(pending.keySet())) {
+            Long seq = pending.remove(key);
+            if (seq != null) {
+                batch.put(key, seq);
+            }
+        }
+
+        List<DeliveryReceiptDto> receipts;
+        try {
+            receipts = transactionTemplate.execute(status -> write(batch));
+        } catch (RuntimeException e) {
+            // Put the marks back for the next flush; a newer ack for the same key wins
+            batch.forEach((key, seq) -> pending.merge(key, seq, Math::max));
+            log.error("Flushing {} delivery acks failed", batch.size(), e);
+            return;
+        }
+        for (DeliveryReceiptDto receipt : receipts) {
+            Long senderId = chatMembershipCache.room(receipt.getChatRoomId()).otherUser(receipt.getUserId());
+            messagingTemplate.convertAndSendToUser(senderId.toString(), DELIVERIES_QUEUE, receipt);
+        }
+    }
+
+    @PreDestroy
+    void drain() {
+        flush();
+    }
+
+    private List<DeliveryReceiptDto> write(Map<Key, Long> batch) {
+        List<DeliveryReceiptDto> receipts = new ArrayList<>();
+        batch.forEach((key, seq) -> {
+            List<Long> moved = chatRoomRepository.advanceDeliveredSeq(key.chatRoomId(), key.userId(), seq);
+            if (!moved.isEmpty()) {
+                receipts.add(DeliveryReceiptDto.builder()
+                        .chatRoomId(key.chatRoomId())
+                        .userId(key.userId())
+                        .deliveredSeq(moved.get(0))
+                        .build());
+            }
+        });
+        return receipts;
+    }
+
+    private record Key(Long chatRoomId, Long userId) {
+    }
+}
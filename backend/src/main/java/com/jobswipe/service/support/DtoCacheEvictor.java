@@ -0,0 +1,46 @@
+package com.jobswipe.service.support;
+
+import com.jobswipe.config.CacheNames;
+import com.jobswipe.domain.repository.JobPostRepository;
+import com.jobswipe.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import java.util.Collection;
+
+/**
+ * Evicts cached job and company DTOs once the writing transaction commits, so a rolled-back
+ * write evicts nothing and reads that start after the commit load the new row. This is not
+ * race-free: a reader that loaded the old row before the commit can still put it back after
+ * the eviction, and that stale DTO then lives until the cache's expireAfterWrite. Job DTOs
+ * embed their company's card, so a company change also evicts that company's jobs.
+ */
+@Component
+@RequiredArgsConstructor
+public class DtoCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final JobPostRepository jobPostRepository;
+
+    public void evictJob(Long jobId) {
+        evict(CacheNames.JOBS, jobId);
+    }
+
+    public void evictJobs(Collection<Long> jobIds) {
+        jobIds.forEach(this::evictJob);
+    }
+
+    public void evictCompany(Long companyId) {
+        evict(CacheNames.COMPANIES, companyId);
+        evict(CacheNames.COMPANY_PROFILES, companyId);
+        evictJobs(jobPostRepository.findIdsByCompanyId(companyId));
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            TransactionCallbacks.afterCommit(() -> cache.evict(key));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.jobswipe.service.support;
+
+import com.jobswipe.domain.repository.JobPostRepository;
+import com.jobswipe.dto.job.JobCardRow;
+import com.jobswipe.dto.job.JobPostDto;
+import com.jobswipe.dto.profile.CompanyProfileDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Turns job card projections into {@link JobPostDto}s with one batched skills query,
+ * so a page of cards costs a fixed number of queries.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobCardAssembler {
+
+    private final JobPostRepository jobPostRepository;
+
+    public List<JobPostDto> toDtos(List<JobCardRow> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, List<String>> skills = loadSkills(rows.stream().map(JobCardRow::getId).collect(Collectors.toSet()));
+        return rows.stream()
+                .map(row -> toDto(row, skills.getOrDefault(row.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    public Page<JobPostDto> toDtos(Page<JobCardRow> rows) {
+        return new PageImpl<>(toDtos(rows.getContent()), rows.getPageable(), rows.getTotalElements());
+    }
+
+    // Loads cards for the given ids and returns them in the same order, dropping ids that no longer exist
+    public List<JobPostDto> loadInOrder(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, JobCardRow> rows = jobPostRepository.findCardsByIdIn(jobIds).stream()
+                .collect(Collectors.toMap(JobCardRow::getId, Function.identity()));
+        return toDtos(jobIds.stream().map(rows::get).filter(Objects::nonNull).collect(Collectors.toList()));
+    }
+
+    private Map<Long, List<String>> loadSkills(Set<Long> jobIds) {
+        Map<Long, List<String>> skills = new HashMap<>();
+        for (Object[] row : jobPostRepository.findSkillsByJobIdIn(jobIds)) {
+            skills.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return skills;
+    }
+
+    private JobPostDto toDto(JobCardRow row, List<String> skills) {
+        return JobPostDto.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .location(row.getLocation())
+                .type(row.getType())
+                .salaryMin(row.getSalaryMin())
+                .salaryMax(row.getSalaryMax())
+                .description(row.getDescription())
+                .requirements(row.getRequirements())
+                .skills(skills)
+                .status(row.getStatus())
+                .createdAt(row.getCreatedAt())
+                .expiresAt(row.getExpiresAt())
+                .company(CompanyProfileDto.builder()
+                        .id(row.getCompanyId())
+                        .userId(row.getCompanyUserId())
+                        .name(row.getCompanyName())
+                        .industry(row.getCompanyIndustry())
+                        .location(row.getCompanyLocation())
+                        .logoUrl(row.getCompanyLogoUrl())
+                        .description(row.getCompanyDescription())
+                        .website(row.getCompanyWebsite())
+                        .size(row.getCompanySize())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.jobswipe.service.support;
+
+import com.jobswipe.domain.entity.ApplicationStatus;
+import com.jobswipe.domain.repository.JobFunnelStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps job_funnel_stats in step with application transitions. Deltas are summed per job
+ * for the current transaction and written just before it commits, one atomic upsert per
+ * job, so a batch of swipes costs one statement per job touched and a rollback writes nothing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobFunnelCounter {
+
+    // Delta slots; the first four follow ApplicationStatus order
+    private static final int PENDING = 0;
+    private static final int VIEWED = 1;
+    private static final int ACCEPTED = 2;
+    private static final int REJECTED = 3;
+    private static final int MATCHES = 4;
+
+    private final JobFunnelStatsRepository jobFunnelStatsRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int created = jobFunnelStatsRepository.backfillMissing();
+        if (created > 0) {
+            log.info("Backfilled applicant funnel counters for {} jobs", created);
+        }
+    }
+
+    public void applied(Long jobId) {
+        record(jobId, new int[] {1, 0, 0, 0, 0});
+    }
+
+    public void viewed(Long jobId, int count) {
+        record(jobId, new int[] {-count, count, 0, 0, 0});
+    }
+
+    public void rejected(Long jobId, ApplicationStatus from) {
+        if (from != ApplicationStatus.REJECTED) {
+            int[] change = leaving(from);
+            change[REJECTED]++;
+            record(jobId, change);
+        }
+    }
+
+    public void matched(Long jobId, ApplicationStatus from) {
+        if (from != ApplicationStatus.ACCEPTED) {
+            int[] change = leaving(from);
+            change[ACCEPTED]++;
+            change[MATCHES]++;
+            record(jobId, change);
+        }
+    }
+
+    // For bulk transitions done in SQL: recount the affected jobs from scratch in this transaction
+    public void recount(Collection<Long> jobIds) {
+        if (!jobIds.isEmpty()) {
+            jobFunnelStatsRepository.recount(jobIds);
+        }
+    }
+
+    private static int[] leaving(ApplicationStatus from) {
+        int[] change = new int[5];
+        change[from.ordinal()]--;
+        return change;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void record(Long jobId, int[] change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(jobId, change);
+            return;
+        }
+        Map<Long, int[]> deltas = (Map<Long, int[]>) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            Map<Long, int[]> bound = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    bound.forEach(JobFunnelCounter.this::write);
+                    bound.clear();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(JobFunnelCounter.this);
+                }
+            });
+            deltas = bound;
+        }
+        int[] sum = deltas.computeIfAbsent(jobId, id -> new int[5]);
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] += change[i];
+        }
+    }
+
+    private void write(Long jobId, int[] delta) {
+        if (Arrays.stream(delta).anyMatch(d -> d != 0)) {
+            jobFunnelStatsRepository.addDelta(jobId, delta[PENDING], delta[VIEWED], delta[ACCEPTED],
+                    delta[REJECTED], delta[MATCHES]);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.jobswipe.service.support;
+
+import com.jobswipe.domain.entity.Message;
+import com.jobswipe.domain.entity.MessageStatus;
+import com.jobswipe.domain.entity.NotificationType;
+import com.jobswipe.domain.repository.ChatRoomRepository;
+import com.jobswipe.domain.repository.MessageRepository;
+import com.jobswipe.domain.repository.UserRepository;
+import com.jobswipe.dto.chat.MessageDto;
+import com.jobswipe.dto.chat.UserEventDto;
+import com.jobswipe.dto.notification.NotificationRequest;
+import com.jobswipe.exception.ApiException;
+import com.jobswipe.index.ChatSearchIndex;
+import com.jobswipe.service.NotificationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Group commit for chat messages. Senders hand a validated message to a bounded queue and
+ * get a future to wait on or chain from; a single writer thread persists whatever has
+ * accumulated in one transaction: one sequence-allocating UPDATE per room, then JDBC
+ * batches of message and outbox inserts.
+ * Senders are acknowledged once that commit returns, so a burst costs one commit per
+ * batch instead of one per message.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageIngestPipeline {
+
+    private static final int PREVIEW_LENGTH = 200;
+    private static final int NOTIFICATION_PREVIEW_LENGTH = 50;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final MessageRepository messageRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final UserEventStream userEventStream;
+    private final ChatSearchIndex chatSearchIndex;
+
+    @Value("${app.chat.ingest.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.chat.ingest.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.chat.ingest.ack-timeout-ms:5000}")
+    private long ackTimeoutMs;
+
+    private BlockingQueue<Submission> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::run, "chat-ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // The writer finishes what it can of the queue; whatever is left by then is failed, not abandoned
+        running = false;
+        writer.join(ackTimeoutMs);
+        List<Submission> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(submission -> submission.result().completeExceptionally(
+                new ApiException("Chat is shutting down, message was not sent", HttpStatus.SERVICE_UNAVAILABLE)));
+    }
+
+    /**
+     * Queues the message; the future completes once it is committed. Call this outside any
+     * transaction: the room must already be committed. A message still queued after the ack
+     * timeout is withdrawn and failed as not sent, so an error before the writer takes it is
+     * always final.
+     */
+    public CompletableFuture<MessageDto> submitAsync(PendingMessage message) {
+        Submission submission = new Submission(message, new CompletableFuture<>());
+        if (!running || !queue.offer(submission)) {
+            throw new ApiException("Chat is busy, please try again", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        CompletableFuture.delayedExecutor(ackTimeoutMs, TimeUnit.MILLISECONDS).execute(() -> {
+            if (queue.remove(submission)) {
+                submission.result().completeExceptionally(
+                        new ApiException("Chat is busy, message was not sent", HttpStatus.SERVICE_UNAVAILABLE));
+            }
+        });
+        return submission.result();
+    }
+
+    /**
+     * Queues the message and waits for the commit, for callers that must answer synchronously.
+     * A message the writer has taken gets one more ack timeout; past that its outcome is
+     * unknown and reported as such, since a blind retry could send it twice.
+     */
+    public MessageDto submit(PendingMessage message) {
+        CompletableFuture<MessageDto> result = submitAsync(message);
+        try {
+            return result.get(2 * ackTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ApiException("Message was not confirmed in time and may still be sent; check the chat before retrying",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while sending message", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    // The failure a sender should see: ApiExceptions as they are, anything else logged and hidden
+    private static ApiException unwrap(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof ApiException apiException) {
+            return apiException;
+        }
+        log.error("Failed to persist chat message", failure);
+        return new ApiException("Failed to send message", HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private void run() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Chat ingest writer failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Submission> batch) {
+        List<MessageDto> written;
+        try {
+            written = transactionTemplate.execute(status -> persist(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            // One bad message must not fail the others: retry each in its own transaction
+            log.warn("Chat batch of {} failed, retrying messages one by one", batch.size(), e);
+            batch.forEach(submission -> write(List.of(submission)));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(written.get(i));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            MessageDto message = written.get(i);
+            chatSearchIndex.messageAdded(message.getChatRoomId(), message.getSeq(), message.getContent(),
+                    message.getCreatedAt());
+            publish(batch.get(i).message(), message);
+        }
+    }
+
+    // Both participants get the committed message on their event streams, the sender for other devices
+    private void publish(PendingMessage pending, MessageDto message) {
+        try {
+            userEventStream.publish(pending.senderId(), UserEventDto.Type.MESSAGE, message);
+            userEventStream.publish(pending.recipientId(), UserEventDto.Type.MESSAGE, MessageDto.builder()
+                    .id(message.getId())
+                    .chatRoomId(message.getChatRoomId())
+                    .seq(message.getSeq())
+                    .senderId(message.getSenderId())
+                    .senderName(message.getSenderName())
+                    .content(message.getContent())
+                    .status(message.getStatus())
+                    .createdAt(message.getCreatedAt())
+                    .isOwn(false)
+                    .build());
+        } catch (RuntimeException e) {
+            // The message is committed; a client that missed the push catches up on resume
+            log.warn("Failed to publish chat message {}", message.getId(), e);
+        }
+    }
+
+    private List<MessageDto> persist(List<Submission> batch) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // One UPDATE per room hands out a block of sequence numbers in queue order
+        Map<Long, List<Integer>> byRoom = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            byRoom.computeIfAbsent(batch.get(i).message().chatRoomId(), id -> new ArrayList<>()).add(i);
+        }
+        long[] seqs = new long[batch.size()];
+        byRoom.forEach((roomId, positions) -> {
+            // Each sender's read watermark moves to their last message in the block
+            int user1Sent = 0;
+            int user2Sent = 0;
+            for (int k = 0; k < positions.size(); k++) {
+                if (batch.get(positions.get(k)).message().recipientIsUser1()) {
+                    user2Sent = k + 1;
+                } else {
+                    user1Sent = k + 1;
+                }
+            }
+            String lastContent = batch.get(positions.get(positions.size() - 1)).message().content();
+            Long lastSeq = chatRoomRepository.appendMessages(roomId, positions.size(), user1Sent, user2Sent,
+                    truncate(lastContent, PREVIEW_LENGTH), now);
+            if (lastSeq == null) {
+                throw new ApiException("Chat room not found", HttpStatus.NOT_FOUND);
+            }
+            long seq = lastSeq - positions.size();
+            for (int i : positions) {
+                seqs[i] = ++seq;
+            }
+        });
+
+        // Sender names for the notifications, one query for the whole batch
+        Set<Long> senderIds = new HashSet<>();
+        batch.forEach(submission -> senderIds.add(submission.message().senderId()));
+        Map<Long, String> senderNames = new HashMap<>();
+        userRepository.findAllById(senderIds).forEach(user -> senderNames.put(user.getId(), user.getName()));
+
+        List<Message> messages = new ArrayList<>(batch.size());
+        List<NotificationRequest> notifications = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage pending = batch.get(i).message();
+            messages.add(Message.builder()
+                    .chatRoom(chatRoomRepository.getReferenceById(pending.chatRoomId()))
+                    .seq(seqs[i])
+                    .sender(userRepository.getReferenceById(pending.senderId()))
+                    .content(pending.content())
+                    .status(MessageStatus.SENT)
+                    .createdAt(now)
+                    .build());
+            notifications.add(NotificationRequest.builder()
+                    .userId(pending.recipientId())
+                    .type(NotificationType.MESSAGE)
+                    .title("New Message")
+                    .message(senderNames.get(pending.senderId()) + ": "
+                            + (pending.content().length() > NOTIFICATION_PREVIEW_LENGTH
+                                    ? pending.content().substring(0, NOTIFICATION_PREVIEW_LENGTH) + "..."
+                                    : pending.content()))
+                    .relatedId(pending.chatRoomId())
+                    .build());
+        }
+        messageRepository.saveAll(messages);
+        notificationService.enqueueNotifications(notifications);
+
+        List<MessageDto> written = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage pending = batch.get(i).message();
+            Message message = messages.get(i);
+            written.add(MessageDto.builder()
+                    .id(message.getId())
+                    .chatRoomId(pending.chatRoomId())
+                    .seq(message.getSeq())
+                    .senderId(pending.senderId())
+                    .senderName(senderNames.get(pending.senderId()))
+                    .content(pending.content())
+                    .status(message.getStatus())
+                    .createdAt(message.getCreatedAt())
+                    .isOwn(true)
+                    .build());
+        }
+        return written;
+    }
+
+    private static String truncate(String content, int length) {
+        return content.length() > length ? content.substring(0, length) : content;
+    }
+
+    // A message that has passed access checks, addressed to a committed room
+    public record PendingMessage(Long chatRoomId, Long senderId, Long recipientId, boolean recipientIsUser1,
+            String content) {
+    }
+
+    private record Submission(PendingMessage message, CompletableFuture<MessageDto> result) {
+    }
+}
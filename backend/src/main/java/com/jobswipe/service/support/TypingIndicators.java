@@ -0,0 +1,109 @@
+package com.jobswipe.service.support;
+
+import com.jobswipe.dto.chat.TypingEventDto;
+import com.jobswipe.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typing state per user and room, held only in memory. Clients may report on every
+ * keystroke; the other participant sees at most one event per throttle interval, a change
+ * held back by the throttle is sent by the sweep, a long typing run is refreshed before the
+ * client-side expiry, and a user who goes quiet stops typing after the TTL.
+ */
+@Component
+@RequiredArgsConstructor
+public class TypingIndicators {
+
+    private static final String TYPING_QUEUE = "/queue/typing";
+
+    private final ChatMembershipCache chatMembershipCache;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${app.chat.typing.throttle-ms:1000}")
+    private long throttleMs;
+
+    @Value("${app.chat.typing.ttl-ms:5000}")
+    private long ttlMs;
+
+    private final Map<Key, State> states = new ConcurrentHashMap<>();
+
+    public void update(Long userId, Long chatRoomId, boolean typing) {
+        ChatMembershipCache.Membership membership = chatMembershipCache.room(chatRoomId);
+        if (!membership.hasUser(userId)) {
+            throw new ApiException("Access denied", HttpStatus.FORBIDDEN);
+        }
+        Key key = new Key(chatRoomId, userId);
+        while (true) {
+            State state = states.computeIfAbsent(key, k -> new State(membership.otherUser(userId)));
+            synchronized (state) {
+                // The sweep may have dropped this state between the lookup and the lock
+                if (states.get(key) != state) {
+                    continue;
+                }
+                long now = System.currentTimeMillis();
+                state.typing = typing;
+                state.expiresAt = now + ttlMs;
+                flush(chatRoomId, userId, state, now);
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.typing.sweep-ms:500}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        states.forEach((key, state) -> {
+            synchronized (state) {
+                if (state.typing && now >= state.expiresAt) {
+                    state.typing = false;
+                }
+                flush(key.chatRoomId(), key.userId(), state, now);
+                if (!state.typing && !state.shown) {
+                    states.remove(key, state);
+                }
+            }
+        });
+    }
+
+    // Sends the latest state if the recipient's view is stale and the throttle allows it. While
+    // the user keeps typing, typing=true is re-sent halfway through the advertised expiry so the
+    // recipient's client does not clear the indicator on its own.
+    private void flush(Long chatRoomId, Long userId, State state, long now) {
+        boolean changed = state.shown != state.typing;
+        boolean refresh = state.typing && now - state.lastSentAt >= ttlMs / 2;
+        if (!(changed || refresh) || now - state.lastSentAt < throttleMs) {
+            return;
+        }
+        state.shown = state.typing;
+        state.lastSentAt = now;
+        messagingTemplate.convertAndSendToUser(state.recipientId.toString(), TYPING_QUEUE, TypingEventDto.builder()
+                .chatRoomId(chatRoomId)
+                .userId(userId)
+                .typing(state.typing)
+                .expiresInMs(state.typing ? ttlMs : 0)
+                .build());
+    }
+
+    private record Key(Long chatRoomId, Long userId) {
+    }
+
+    private static final class State {
+        private final Long recipientId;
+        private boolean typing;
+        // What the recipient was last told
+        private boolean shown;
+        private long lastSentAt;
+        private long expiresAt;
+
+        private State(Long recipientId) {
+            this.recipientId = recipientId;
+        }
+    }
+}
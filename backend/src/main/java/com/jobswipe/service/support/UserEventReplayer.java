@@ -0,0 +1,69 @@
+package com.jobswipe.service.support;
+
+import com.jobswipe.dto.chat.MessageHistoryDto;
+import com.jobswipe.dto.chat.ResumeRequest;
+import com.jobswipe.dto.chat.ResyncDto;
+import com.jobswipe.dto.chat.UserEventDto;
+import com.jobswipe.exception.ApiException;
+import com.jobswipe.service.ChatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catches a reconnecting client up on its event stream. Missed events still in the replay
+ * buffer are resent as they were; otherwise the client gets one RESYNC event with the
+ * messages it missed in each room it named, read from the database and archive.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventReplayer {
+
+    private final UserEventStream userEventStream;
+    private final ChatService chatService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${app.events.resync-max-rooms:50}")
+    private int resyncMaxRooms;
+
+    @Value("${app.events.resync-messages-per-room:100}")
+    private int resyncMessagesPerRoom;
+
+    public void resume(Long userId, ResumeRequest request) {
+        if (userEventStream.replay(userId, request.getEpoch(), request.getLastSeq())) {
+            return;
+        }
+
+        // Taken before the reads, so anything published meanwhile is both in the resync and on the stream
+        long head = userEventStream.head(userId);
+        List<MessageHistoryDto> rooms = new ArrayList<>();
+        if (request.getRooms() != null) {
+            for (Map.Entry<Long, Long> room : request.getRooms().entrySet()) {
+                if (rooms.size() == resyncMaxRooms) {
+                    break;
+                }
+                try {
+                    rooms.add(chatService.getMessageHistory(userId, room.getKey(), null,
+                            room.getValue() != null ? room.getValue() : 0L, resyncMessagesPerRoom));
+                } catch (ApiException e) {
+                    log.debug("Skipping room {} in resync for user {}: {}", room.getKey(), userId, e.getMessage());
+                } catch (RuntimeException e) {
+                    // One unreadable room must not cost the client the rest of its resync
+                    log.error("Reading room {} for resync of user {} failed", room.getKey(), userId, e);
+                }
+            }
+        }
+        messagingTemplate.convertAndSendToUser(userId.toString(), UserEventStream.EVENTS_QUEUE, UserEventDto.builder()
+                .epoch(userEventStream.epoch())
+                .seq(head)
+                .type(UserEventDto.Type.RESYNC)
+                .payload(ResyncDto.builder().rooms(rooms).build())
+                .build());
+    }
+}
@@ -0,0 +1,125 @@
+package com.jobswipe.service.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobswipe.dto.chat.UserEventDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-user stream of chat and notification events on /user/queue/events. Each user's
+ * events are numbered and the most recent ones kept in a ring buffer, so a client that
+ * reconnects can ask for everything after the last number it saw. Numbers are only
+ * meaningful within one epoch (one run of this node); a client holding another epoch's
+ * number, or one that has fallen out of the ring, must resync from the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEventStream {
+
+    public static final String EVENTS_QUEUE = "/queue/events";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${app.events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.events.idle-minutes:60}")
+    private long idleMinutes;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private Cache<Long, Ring> rings;
+
+    @PostConstruct
+    void init() {
+        rings = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    public void publish(Long userId, UserEventDto.Type type, Object payload) {
+        Ring ring = rings.get(userId, id -> new Ring(bufferSize));
+        // Numbering and sending under the ring's lock keep each user's events in order
+        synchronized (ring) {
+            UserEventDto event = ring.append(epoch, type, payload);
+            messagingTemplate.convertAndSendToUser(userId.toString(), EVENTS_QUEUE, event);
+        }
+    }
+
+    /**
+     * Resends the events after lastSeq, oldest first, or returns false when the ring cannot
+     * cover the gap. Sending under the ring's lock keeps live events from overtaking the replay.
+     */
+    public boolean replay(Long userId, String clientEpoch, long lastSeq) {
+        if (!epoch.equals(clientEpoch)) {
+            return false;
+        }
+        Ring ring = rings.getIfPresent(userId);
+        if (ring == null) {
+            // Nothing was published since this node started, or the ring idled out
+            return lastSeq == 0;
+        }
+        synchronized (ring) {
+            List<UserEventDto> missed = ring.since(lastSeq);
+            if (missed == null) {
+                return false;
+            }
+            missed.forEach(event -> messagingTemplate.convertAndSendToUser(userId.toString(), EVENTS_QUEUE, event));
+            return true;
+        }
+    }
+
+    // The newest event number for the user, the position a resynced client continues from
+    public long head(Long userId) {
+        Ring ring = rings.getIfPresent(userId);
+        if (ring == null) {
+            return 0;
+        }
+        synchronized (ring) {
+            return ring.nextSeq - 1;
+        }
+    }
+
+    private static final class Ring {
+        private final UserEventDto[] events;
+        private long nextSeq = 1;
+
+        private Ring(int capacity) {
+            events = new UserEventDto[capacity];
+        }
+
+        private UserEventDto append(String epoch, UserEventDto.Type type, Object payload) {
+            UserEventDto event = UserEventDto.builder()
+                    .epoch(epoch)
+                    .seq(nextSeq)
+                    .type(type)
+                    .payload(payload)
+                    .build();
+            events[(int) (nextSeq % events.length)] = event;
+            nextSeq++;
+            return event;
+        }
+
+        private List<UserEventDto> since(long lastSeq) {
+            long oldest = Math.max(1, nextSeq - events.length);
+            if (lastSeq < oldest - 1 || lastSeq >= nextSeq) {
+                return null;
+            }
+            List<UserEventDto> missed = new ArrayList<>((int) (nextSeq - 1 - lastSeq));
+            for (long seq = lastSeq + 1; seq < nextSeq; seq++) {
+                missed.add(events[(int) (seq % events.length)]);
+            }
+            return missed;
+        }
+    }
+}
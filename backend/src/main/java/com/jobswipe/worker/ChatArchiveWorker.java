@@ -0,0 +1,32 @@
+package com.jobswipe.worker;
+
+import com.jobswipe.service.ChatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatArchiveWorker {
+
+    private final ChatService chatService;
+
+    @Value("${app.chat.archive.batch-rooms:50}")
+    private int batchRooms;
+
+    @Scheduled(fixedDelayString = "${app.chat.archive.interval-ms:3600000}")
+    public void archive() {
+        try {
+            // Stops at the first short batch, so a room that keeps failing cannot spin this loop
+            int archived;
+            do {
+                archived = chatService.archiveColdMessages(batchRooms);
+            } while (archived == batchRooms);
+        } catch (Exception e) {
+            log.error("Chat archiving failed", e);
+        }
+    }
+}
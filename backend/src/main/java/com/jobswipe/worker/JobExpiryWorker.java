@@ -0,0 +1,32 @@
+package com.jobswipe.worker;
+
+import com.jobswipe.service.JobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobExpiryWorker {
+
+    private final JobService jobService;
+
+    @Value("${app.jobs.expiry-batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.jobs.expiry-interval-ms:60000}")
+    public void closeExpired() {
+        try {
+            // Each batch commits on its own, so a large backlog never holds one long transaction
+            int closed;
+            do {
+                closed = jobService.closeExpiredJobs(batchSize);
+            } while (closed == batchSize);
+        } catch (Exception e) {
+            log.error("Closing expired jobs failed", e);
+        }
+    }
+}
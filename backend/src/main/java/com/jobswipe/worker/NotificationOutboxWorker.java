@@ -0,0 +1,32 @@
+package com.jobswipe.worker;
+
+import com.jobswipe.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWorker {
+
+    private final NotificationService notificationService;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void drain() {
+        try {
+            // Keep going while full batches come back so a burst is drained in one tick
+            int dispatched;
+            do {
+                dispatched = notificationService.dispatchOutbox(batchSize);
+            } while (dispatched == batchSize);
+        } catch (Exception e) {
+            log.error("Notification outbox drain failed", e);
+        }
+    }
+}
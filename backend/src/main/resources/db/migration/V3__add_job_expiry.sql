@@ -0,0 +1,9 @@
+-- Migration: Give existing open jobs an expiry date
+-- Hibernate adds the expires_at column on startup (ddl-auto=update); run this afterwards.
+--
+-- Open jobs expire 30 days after posting (app.jobs.default-ttl-days), but never sooner
+-- than a week from now so companies are not surprised by an immediate mass close.
+
+UPDATE jobswipe.job_posts
+SET expires_at = GREATEST(created_at + INTERVAL '30 days', NOW() + INTERVAL '7 days')
+WHERE status = 'OPEN' AND expires_at IS NULL;
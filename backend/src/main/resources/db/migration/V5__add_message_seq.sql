@@ -0,0 +1,25 @@
+-- Migration: Number chat messages per room
+-- Run this BEFORE starting the new version: Hibernate cannot add the NOT NULL seq column
+-- to a table that already has rows.
+--
+-- Existing messages are numbered in id order within their room, and each room's
+-- last_seq is set to its highest number. last_message_id is superseded by last_seq.
+
+ALTER TABLE jobswipe.messages ADD COLUMN IF NOT EXISTS seq BIGINT;
+ALTER TABLE jobswipe.chat_rooms ADD COLUMN IF NOT EXISTS last_seq BIGINT NOT NULL DEFAULT 0;
+
+UPDATE jobswipe.messages m
+SET seq = r.rn
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY chat_room_id ORDER BY id) AS rn
+    FROM jobswipe.messages
+) r
+WHERE r.id = m.id AND m.seq IS NULL;
+
+ALTER TABLE jobswipe.messages ALTER COLUMN seq SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_messages_room_seq ON jobswipe.messages (chat_room_id, seq);
+
+UPDATE jobswipe.chat_rooms c
+SET last_seq = COALESCE((SELECT MAX(m.seq) FROM jobswipe.messages m WHERE m.chat_room_id = c.id), 0);
+
+ALTER TABLE jobswipe.chat_rooms DROP COLUMN IF EXISTS last_message_id;
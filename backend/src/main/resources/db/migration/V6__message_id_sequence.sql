@@ -0,0 +1,9 @@
+-- Migration: Pooled id sequence for chat messages
+-- Run this BEFORE starting the new version, otherwise Hibernate creates messages_seq
+-- starting at 1 and new ids collide with existing rows.
+--
+-- Message ids now come from messages_seq in blocks of 50 so message inserts can be
+-- JDBC-batched. The id column keeps its identity default; Hibernate always supplies the id.
+
+CREATE SEQUENCE IF NOT EXISTS jobswipe.messages_seq INCREMENT BY 50;
+SELECT setval('jobswipe.messages_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM jobswipe.messages));
@@ -0,0 +1,47 @@
+-- Migration: Fill the inbox summary and read/delivery watermarks on existing chat rooms
+-- Run this AFTER V5 and V6. Safe to run before or after starting the new version: the
+-- columns are added here if Hibernate has not created them yet.
+--
+-- Everything is derived from the messages table, so the script works on a baseline
+-- database. Each participant's read watermark is the newest message they either sent or
+-- had marked READ; the delivery watermark also counts DELIVERED messages.
+
+ALTER TABLE jobswipe.chat_rooms ADD COLUMN IF NOT EXISTS last_message_preview VARCHAR(200);
+ALTER TABLE jobswipe.chat_rooms ADD COLUMN IF NOT EXISTS last_message_at TIMESTAMP(6);
+ALTER TABLE jobswipe.chat_rooms ADD COLUMN IF NOT EXISTS last_activity_at TIMESTAMP(6);
+ALTER TABLE jobswipe.chat_rooms ADD COLUMN IF NOT EXISTS archived_up_to_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE jobswipe.chat_rooms ADD COLUMN IF NOT EXISTS user1_read_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE jobswipe.chat_rooms ADD COLUMN IF NOT EXISTS user2_read_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE jobswipe.chat_rooms ADD COLUMN IF NOT EXISTS user1_delivered_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE jobswipe.chat_rooms ADD COLUMN IF NOT EXISTS user2_delivered_seq BIGINT NOT NULL DEFAULT 0;
+
+UPDATE jobswipe.chat_rooms c
+SET last_message_preview = LEFT(m.content, 200),
+    last_message_at = m.created_at
+FROM (
+    SELECT DISTINCT ON (chat_room_id) chat_room_id, content, created_at
+    FROM jobswipe.messages
+    ORDER BY chat_room_id, seq DESC
+) m
+WHERE m.chat_room_id = c.id;
+
+UPDATE jobswipe.chat_rooms c
+SET last_activity_at = COALESCE(c.last_message_at, c.created_at)
+WHERE c.last_activity_at IS NULL;
+
+UPDATE jobswipe.chat_rooms c
+SET user1_read_seq = GREATEST(c.user1_read_seq, COALESCE(w.user1_read, 0)),
+    user2_read_seq = GREATEST(c.user2_read_seq, COALESCE(w.user2_read, 0)),
+    user1_delivered_seq = GREATEST(c.user1_delivered_seq, COALESCE(w.user1_delivered, 0)),
+    user2_delivered_seq = GREATEST(c.user2_delivered_seq, COALESCE(w.user2_delivered, 0))
+FROM (
+    SELECT r.id,
+           MAX(m.seq) FILTER (WHERE m.sender_id = r.user1_id OR m.status = 'READ') AS user1_read,
+           MAX(m.seq) FILTER (WHERE m.sender_id = r.user2_id OR m.status = 'READ') AS user2_read,
+           MAX(m.seq) FILTER (WHERE m.sender_id = r.user1_id OR m.status IN ('DELIVERED', 'READ')) AS user1_delivered,
+           MAX(m.seq) FILTER (WHERE m.sender_id = r.user2_id OR m.status IN ('DELIVERED', 'READ')) AS user2_delivered
+    FROM jobswipe.chat_rooms r
+    JOIN jobswipe.messages m ON m.chat_room_id = r.id
+    GROUP BY r.id
+) w
+WHERE w.id = c.id;
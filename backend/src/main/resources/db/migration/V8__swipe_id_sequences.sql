@@ -0,0 +1,16 @@
+-- Migration: Pooled id sequences for applications, job skips and matches
+-- Run this BEFORE starting the new version, otherwise Hibernate creates the sequences
+-- starting at 1 and new ids collide with existing rows.
+--
+-- Ids now come from these sequences in blocks of 50 so batch swipes can JDBC-batch their
+-- inserts; Hibernate disables insert batching for IDENTITY ids. The id columns keep their
+-- identity defaults; Hibernate always supplies the id.
+
+CREATE SEQUENCE IF NOT EXISTS jobswipe.applications_seq INCREMENT BY 50;
+SELECT setval('jobswipe.applications_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM jobswipe.applications));
+
+CREATE SEQUENCE IF NOT EXISTS jobswipe.job_skips_seq INCREMENT BY 50;
+SELECT setval('jobswipe.job_skips_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM jobswipe.job_skips));
+
+CREATE SEQUENCE IF NOT EXISTS jobswipe.matches_seq INCREMENT BY 50;
+SELECT setval('jobswipe.matches_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM jobswipe.matches));
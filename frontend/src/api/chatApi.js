@@ -37,13 +37,29 @@ export const chatApi = {
         return response.data;
     },
 
+    // Keyset history: pass { before } to scroll back or { after } to catch up after a reconnect
+    getMessageHistory: async (chatRoomId, { before, after, limit = 50 } = {}) => {
+        const response = await axios.get(`/chats/room/${chatRoomId}/history`, {
+            params: { before, after, limit }
+        });
+        return response.data;
+    },
+
+    // { messages, complete }: matches newest first, each with chatRoomId and seq for
+    // getMessageHistory(chatRoomId, { before: seq + 1 }); complete is false while older history is still being indexed
+    searchMessages: async (q, limit = 20) => {
+        const response = await axios.get('/chats/search', { params: { q, limit } });
+        return response.data;
+    },
+
     sendMessageToChatRoom: async (chatRoomId, content) => {
         const response = await axios.post(`/chats/room/${chatRoomId}/messages`, { content });
         return response.data;
     },
 
-    markChatRoomAsRead: async (chatRoomId) => {
-        await axios.put(`/chats/room/${chatRoomId}/read`);
+    // Read receipts arrive on /user/queue/receipts as { chatRoomId, userId, readSeq }
+    markChatRoomAsRead: async (chatRoomId, seq) => {
+        await axios.put(`/chats/room/${chatRoomId}/read`, null, { params: { seq } });
     },
 
     getOnlineUsers: async () => {
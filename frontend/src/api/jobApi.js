@@ -1,10 +1,40 @@
 import axios from './axios';
 
 export const jobApi = {
-    // Get all jobs for seekers to swipe
-    getJobsForSwipe: async (page = 0, size = 10) => {
+    // Get all jobs for seekers to swipe; filters: { type, location, industry, salaryMin, salaryMax }
+    getJobsForSwipe: async (page = 0, size = 10, filters = {}) => {
         const response = await axios.get('/jobs/swipe', {
-            params: { page, size },
+            params: { ...filters, page, size },
+        });
+        return response.data;
+    },
+
+    // Get the next page of the swipe deck (pass the previous nextCursor to continue)
+    getSwipeDeck: async (cursor = null, size = 10, filters = {}) => {
+        const response = await axios.get('/jobs/deck', {
+            params: { ...filters, cursor, size },
+        });
+        return response.data;
+    },
+
+    // Open-job counts per type, location, industry and salary band for the current filters
+    getJobFacets: async (filters = {}) => {
+        const response = await axios.get('/jobs/facets', { params: filters });
+        return response.data;
+    },
+
+    // Get jobs ranked by overlap with the seeker's skills
+    getRankedJobs: async (size = 10) => {
+        const response = await axios.get('/jobs/ranked', {
+            params: { size },
+        });
+        return response.data;
+    },
+
+    // Keyword search over open jobs; filters: { type, location, industry, salaryMin, salaryMax }
+    searchJobs: async (q, filters = {}, page = 0, size = 20) => {
+        const response = await axios.get('/jobs/search', {
+            params: { q, ...filters, page, size },
         });
         return response.data;
     },
@@ -34,8 +64,8 @@ export const jobApi = {
     },
 
     // Company: Get all jobs posted by company
-    getCompanyJobs: async () => {
-        const response = await axios.get('/jobs/company');
+    getCompanyJobs: async (filters = {}) => {
+        const response = await axios.get('/jobs/company', { params: filters });
         return response.data;
     },
 
@@ -19,6 +19,18 @@ export const swipeApi = {
         return response.data;
     },
 
+    // Seeker: Send several job swipes at once; results come back in the same order
+    swipeJobs: async (swipes) => {
+        const response = await axios.post('/swipes/job/batch', { swipes });
+        return response.data;
+    },
+
+    // Company: Send several applicant swipes at once; results come back in the same order
+    swipeApplicants: async (swipes) => {
+        const response = await axios.post('/swipes/applicant/batch', { swipes });
+        return response.data;
+    },
+
     // Get seeker's applied jobs
     getAppliedJobs: async (page = 0, size = 10) => {
         const response = await axios.get('/applications/seeker', {
@@ -0,0 +1,25 @@
+import { useEffect, useRef } from 'react';
+
+/**
+ * Tells senders their messages reached this client. Acks the newest message from
+ * someone else once per seq; one ack covers everything in the room up to it.
+ *
+ * Usage:
+ * const { connected, ackDelivered } = useWebSocket(...);
+ * useDeliveryAcks(messages, user?.id, connected, ackDelivered);
+ */
+export const useDeliveryAcks = (messages, userId, connected, ackDelivered) => {
+    const lastAckedSeqRef = useRef({});
+
+    useEffect(() => {
+        if (!connected) return;
+        const latest = messages.reduce(
+            (max, msg) => (msg.senderId !== userId && msg.seq > (max?.seq || 0) ? msg : max), null);
+        if (latest && latest.seq > (lastAckedSeqRef.current[latest.chatRoomId] || 0)) {
+            lastAckedSeqRef.current[latest.chatRoomId] = latest.seq;
+            ackDelivered(latest.chatRoomId, latest.seq);
+        }
+    }, [messages, userId, connected, ackDelivered]);
+};
+
+export default useDeliveryAcks;
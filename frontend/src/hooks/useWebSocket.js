@@ -4,11 +4,16 @@ import { Client } from '@stomp/stompjs';
 
 const WS_URL = import.meta.env.VITE_WS_URL || 'http://localhost:8080/ws';
 
-export const useWebSocket = (matchId, onMessage, onPresenceChange) => {
+export const useWebSocket = (matchId, onMessage, onPresenceChange, onTyping, onEvent) => {
     const [connected, setConnected] = useState(false);
     const clientRef = useRef(null);
     const onMessageRef = useRef(onMessage);
     const onPresenceChangeRef = useRef(onPresenceChange);
+    const onTypingRef = useRef(onTyping);
+    const onEventRef = useRef(onEvent);
+    // Position in the user's event stream and the newest message seq seen per room, kept across reconnects
+    const cursorRef = useRef({ epoch: null, seq: 0 });
+    const roomSeqsRef = useRef({});
 
     // Keep the callback refs updated
     useEffect(() => {
@@ -19,6 +24,14 @@ export const useWebSocket = (matchId, onMessage, onPresenceChange) => {
         onPresenceChangeRef.current = onPresenceChange;
     }, [onPresenceChange]);
 
+    useEffect(() => {
+        onTypingRef.current = onTyping;
+    }, [onTyping]);
+
+    useEffect(() => {
+        onEventRef.current = onEvent;
+    }, [onEvent]);
+
     useEffect(() => {
         if (!matchId) return;
 
@@ -56,6 +69,44 @@ export const useWebSocket = (matchId, onMessage, onPresenceChange) => {
                     onPresenceChangeRef.current(JSON.parse(message.body));
                 }
             });
+
+            // Typing events from the other participant: { chatRoomId, userId, typing, expiresInMs }
+            client.subscribe('/user/queue/typing', (message) => {
+                if (onTypingRef.current) {
+                    onTypingRef.current(JSON.parse(message.body));
+                }
+            });
+
+            // Chat messages and notifications as { epoch, seq, type, payload }, replayed after a reconnect
+            client.subscribe('/user/queue/events', (message) => {
+                const event = JSON.parse(message.body);
+                const cursor = cursorRef.current;
+                if (event.epoch === cursor.epoch && event.seq <= cursor.seq && event.type !== 'RESYNC') {
+                    return;
+                }
+                cursorRef.current = { epoch: event.epoch, seq: event.seq };
+                if (event.type === 'MESSAGE') {
+                    const { chatRoomId, seq } = event.payload;
+                    roomSeqsRef.current[chatRoomId] = Math.max(roomSeqsRef.current[chatRoomId] || 0, seq);
+                } else if (event.type === 'RESYNC') {
+                    event.payload.rooms.forEach((room) => {
+                        const last = room.messages.length ? room.messages[room.messages.length - 1].seq : 0;
+                        roomSeqsRef.current[room.chatRoomId] = Math.max(roomSeqsRef.current[room.chatRoomId] || 0, last);
+                    });
+                }
+                if (onEventRef.current) {
+                    onEventRef.current(event);
+                }
+            });
+
+            client.publish({
+                destination: '/app/events.resume',
+                body: JSON.stringify({
+                    epoch: cursorRef.current.epoch,
+                    lastSeq: cursorRef.current.seq,
+                    rooms: roomSeqsRef.current,
+                }),
+            });
         };
 
         client.onDisconnect = () => {
@@ -82,7 +133,32 @@ export const useWebSocket = (matchId, onMessage, onPresenceChange) => {
         }
     }, [matchId]);
 
-    return { connected, sendMessage };
+    // Safe to call on every keystroke; the server throttles what the other user sees
+    const sendTyping = useCallback((chatRoomId, typing = true) => {
+        if (clientRef.current && clientRef.current.connected) {
+            clientRef.current.publish({
+                destination: '/app/chat.typing',
+                body: JSON.stringify({ chatRoomId, typing }),
+            });
+        }
+    }, []);
+
+    // Acks every message in the room up to seq; send only the highest seq received
+    const ackDelivered = useCallback((chatRoomId, seq) => {
+        if (clientRef.current && clientRef.current.connected) {
+            clientRef.current.publish({
+                destination: '/app/chat.ack',
+                body: JSON.stringify({ chatRoomId, seq }),
+            });
+        }
+    }, []);
+
+    // Rooms the client already has history for, so a resync after a long disconnect can fill the gap
+    const trackRoom = useCallback((chatRoomId, seq) => {
+        roomSeqsRef.current[chatRoomId] = Math.max(roomSeqsRef.current[chatRoomId] || 0, seq || 0);
+    }, []);
+
+    return { connected, sendMessage, sendTyping, ackDelivered, trackRoom };
 };
 
 export default useWebSocket;
@@ -4,6 +4,7 @@ import { useAuth } from '../../context/AuthContext';
 import { useNotification } from '../../context/NotificationContext';
 import chatApi from '../../api/chatApi';
 import useWebSocket from '../../hooks/useWebSocket';
+import useDeliveryAcks from '../../hooks/useDeliveryAcks';
 import './Chat.css';
 
 const ChatRoomWindow = () => {
@@ -28,7 +29,9 @@ const ChatRoomWindow = () => {
         }, 100);
     }, []);
 
-    const { connected, sendMessage } = useWebSocket(chatRoomId, handleNewMessage);
+    const { connected, sendMessage, ackDelivered } = useWebSocket(chatRoomId, handleNewMessage);
+
+    useDeliveryAcks(messages, user?.id, connected, ackDelivered);
 
     const loadMessages = async (pageNum, isInitial = false) => {
         try {
@@ -4,6 +4,7 @@ import { useAuth } from '../../context/AuthContext';
 import { useNotification } from '../../context/NotificationContext';
 import chatApi from '../../api/chatApi';
 import useWebSocket from '../../hooks/useWebSocket';
+import useDeliveryAcks from '../../hooks/useDeliveryAcks';
 import './Chat.css';
 
 const ChatWindow = () => {
@@ -36,7 +37,9 @@ const ChatWindow = () => {
         }
     }, [chatRoom]);
 
-    const { connected, sendMessage } = useWebSocket(matchId, handleNewMessage, handlePresenceChange);
+    const { connected, sendMessage, ackDelivered } = useWebSocket(matchId, handleNewMessage, handlePresenceChange);
+
+    useDeliveryAcks(messages, user?.id, connected, ackDelivered);
 
     const loadMessages = async (pageNum, isInitial = false) => {
         try {